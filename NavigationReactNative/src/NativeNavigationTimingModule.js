@@ -0,0 +1,16 @@
+// @flow
+import type { TurboModule } from 'react-native/Libraries/TurboModule/RCTExport';
+import { TurboModuleRegistry } from 'react-native';
+
+export interface Spec extends TurboModule {
+    getTimings: () => Promise<Object>;
+    resetTimings: () => void;
+    getLayoutPasses: () => Promise<Object>;
+    resetLayoutPasses: () => void;
+    setLayoutPassSampling: (sampleRate: number) => void;
+    getEventPool: () => Promise<Object>;
+    resetEventPool: () => void;
+}
+export default (TurboModuleRegistry.get<Spec>(
+    'NavigationTiming'
+): ?Spec);
@@ -21,5 +21,6 @@ import useNavigating from './useNavigating';
 import useNavigated from './useNavigated';
 import useUnloading from './useUnloading';
 import useUnloaded from './useUnloaded';
+import { getTransitionTimings, resetTransitionTimings, getLayoutPasses, resetLayoutPasses, setLayoutPassSampling, getEventPool, resetEventPool } from './transitionTimings';
 const Scene = NavigationStack.Scene;
-export { NavigationStack, Scene, NavigationBar, LeftBar, RightBar, BarButton, TitleBar, SearchBar, TabBar, TabBarItem, TabBarItemContext, SharedElement, BackHandlerContext, ModalBackHandler, CoordinatorLayout, CollapsingBar, ActionBar, StatusBar, BottomSheet, FloatingActionButton, useNavigating, useNavigated, useUnloading, useUnloaded };
+export { NavigationStack, Scene, NavigationBar, LeftBar, RightBar, BarButton, TitleBar, SearchBar, TabBar, TabBarItem, TabBarItemContext, SharedElement, BackHandlerContext, ModalBackHandler, CoordinatorLayout, CollapsingBar, ActionBar, StatusBar, BottomSheet, FloatingActionButton, useNavigating, useNavigated, useUnloading, useUnloaded, getTransitionTimings, resetTransitionTimings, getLayoutPasses, resetLayoutPasses, setLayoutPassSampling, getEventPool, resetEventPool };
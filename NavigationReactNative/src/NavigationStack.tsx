@@ -1,15 +1,15 @@
 import React, { ReactNode, ReactElement, useRef, useState, useContext, useEffect } from 'react';
-import { requireNativeComponent, StyleSheet } from 'react-native';
+import { requireNativeComponent, Platform, StyleSheet } from 'react-native';
 import { StateNavigator, Crumb, State } from 'navigation';
 import { NavigationContext } from 'navigation-react';
 import PopSync from './PopSync';
 import Scene from './Scene';
-type NavigationStackProps = {underlayColor: string, title: (state: State, data: any) => string, crumbStyle: any, unmountStyle: any, hidesTabBar: any, sharedElement: any, backgroundColor: any, stackInvalidatedLink: string, renderScene: (state: State, data: any) => ReactNode, children: any};
+type NavigationStackProps = {underlayColor: string, title: (state: State, data: any) => string, crumbStyle: any, unmountStyle: any, hidesTabBar: any, sharedElement: any, backgroundColor: any, stackInvalidatedLink: string, prewarmLink: string, hibernationDepth: number, onTransition: (timing: any) => void, sharedElementTimeout: number, onSharedElementTimeout: (crumb: number, sharedElements: string[]) => void, renderScene: (state: State, data: any) => ReactNode, children: any};
 type NavigationStackState = {stateNavigator: StateNavigator, keys: string[], rest: boolean, counter: number, mostRecentEventCount: number};
 
 const NavigationStack = ({underlayColor = '#000', title, crumbStyle: crumbStyleStack = () => null, unmountStyle: unmountStyleStack = () => null,
     hidesTabBar: hidesTabBarStack = () => false, sharedElement: getSharedElementStack = () => null, backgroundColor: backgroundColorStack = () => null,
-    stackInvalidatedLink, renderScene, children}: NavigationStackProps) => {
+    stackInvalidatedLink, prewarmLink, hibernationDepth = 0, onTransition, sharedElementTimeout = 150, onSharedElementTimeout, renderScene, children}: NavigationStackProps) => {
     const resumeNavigationRef = useRef(null);
     const ref = useRef(null);
     const {stateNavigator} = useContext(NavigationContext);
@@ -70,6 +70,7 @@ const NavigationStack = ({underlayColor = '#000', title, crumbStyle: crumbStyleS
     }
     const sceneProps = ({key}: State) => firstLink ? allScenes[key].props : null;
     const returnOrCall = (item, ...args) => typeof item !== 'function' ? item : item(...args);
+    const toArray = (item) => item != null ? [].concat(item) : null;
     const unmountStyle = (from, state, ...rest) => sceneProps(state)?.unmountStyle ? sceneProps(state)?.unmountStyle(from, ...rest) : unmountStyleStack(from, state, ...rest);
     const crumbStyle = (from, state, ...rest) => sceneProps(state)?.crumbStyle ? sceneProps(state)?.crumbStyle(from, ...rest) : crumbStyleStack(from, state, ...rest);
     const hidesTabBar = (state, ...rest) => sceneProps(state)?.hidesTabBar ? returnOrCall(sceneProps(state)?.hidesTabBar, ...rest) : hidesTabBarStack(state, ...rest);
@@ -80,61 +81,75 @@ const NavigationStack = ({underlayColor = '#000', title, crumbStyle: crumbStyleS
         if (!oldState)
             return null;
         const {crumbs: oldCrumbs} = stateNavigator.parseLink(oldUrl);
-        let enterAnim, exitAnim, sharedElement, oldSharedElement;
+        let enterAnim, exitAnim, sharedElements, oldSharedElements;
         if (oldCrumbs.length < crumbs.length) {
             const {state: nextState, data: nextData} = crumbs.concat(nextCrumb)[oldCrumbs.length + 1];
             enterAnim = unmountStyle(true, state, data, crumbs);
             exitAnim = crumbStyle(false, oldState, oldData, oldCrumbs, nextState, nextData);
-            sharedElement = getSharedElement(state, data, crumbs);
+            sharedElements = toArray(getSharedElement(state, data, crumbs));
         }
         if (crumbs.length < oldCrumbs.length) {
             nextCrumb = new Crumb(oldData, oldState, null, null, false);
             const {state: nextState, data: nextData} = oldCrumbs.concat(nextCrumb)[crumbs.length + 1];
             enterAnim = crumbStyle(true, state, data, crumbs, nextState, nextData);
             exitAnim = unmountStyle(false, oldState, oldData, oldCrumbs);
-            oldSharedElement = getSharedElement(oldState, oldData, oldCrumbs);
+            oldSharedElements = toArray(getSharedElement(oldState, oldData, oldCrumbs));
         }
         if (crumbs.length === oldCrumbs.length) {
             enterAnim = unmountStyle(true, state, data, crumbs);
             exitAnim = unmountStyle(false, oldState, oldData, oldCrumbs, state, data);
         }
         var enterAnimOff = enterAnim === '';
-        return {enterAnim, exitAnim, enterAnimOff, sharedElement, oldSharedElement};
+        return {enterAnim, exitAnim, enterAnimOff, sharedElements, oldSharedElements};
     }
-    const {stateNavigator: prevStateNavigator, keys, rest, mostRecentEventCount} = stackState;
+    const {stateNavigator: prevStateNavigator, keys, rest, counter, mostRecentEventCount} = stackState;
     if (prevStateNavigator !== stateNavigator && stateNavigator.stateContext.state) {
         setStackState((prevStackState) => {
             const {keys: prevKeys, stateNavigator: prevStateNavigator, counter} = prevStackState;
-            const {state, crumbs, nextCrumb, history} = stateNavigator.stateContext;
+            const {state, url, crumbs, nextCrumb, history} = stateNavigator.stateContext;
             const prevState = prevStateNavigator && prevStateNavigator.stateContext.state;
             const currentKeys = crumbs.concat(nextCrumb).map((_, i) => `${counter}-${i}`);
             const newKeys = currentKeys.slice(prevKeys.length);
             const keys = prevKeys.slice(0, currentKeys.length).concat(newKeys);
             if (prevKeys.length === keys.length && prevState !== state)
                 keys[keys.length - 1] = `${counter}-${keys.length - 1}`;
+            if (newKeys.length === 1 && url === prewarmLink)
+                keys[keys.length - 1] = `${counter}-prewarm`;
             const refresh = prevKeys.length === keys.length && prevState === state;
             return {keys, stateNavigator, rest: history || refresh, counter: (counter + 1) % 1000, mostRecentEventCount};
         });
     }
     const {crumbs, nextCrumb} = stateNavigator.stateContext;
+    const canPrewarm = () => {
+        if (Platform.OS !== 'android' || prewarmLink == null || !rest || keys.length !== crumbs.length + 1)
+            return false;
+        const {state, crumbs: prewarmCrumbs} = stateNavigator.parseLink(prewarmLink);
+        return prewarmCrumbs.length === keys.length && (!firstLink || !!allScenes[state.key]);
+    }
+    const prewarm = canPrewarm();
     return (
         <NVNavigationStack
             ref={ref}
             keys={keys}
             mostRecentEventCount={mostRecentEventCount}
+            hibernationDepth={hibernationDepth}
+            sharedElementTimeout={sharedElementTimeout}
             style={[styles.stack, {backgroundColor: underlayColor}]}
             {...getAnimation()}
             onWillNavigateBack={onWillNavigateBack}
             onNavigateToTop={onNavigateToTop}
-            onRest={onRest}>
-            <PopSync<{crumb: number}>
-                data={crumbs.concat(nextCrumb || []).map((_, crumb) => ({crumb}))}
-                getKey={({crumb}) => keys[crumb]}>
-                {(scenes, popNative) => scenes.map(({key, data: {crumb}}) => (
+            onRest={onRest}
+            onTransition={onTransition && (({nativeEvent}) => onTransition(nativeEvent))}
+            onSharedElementTimeout={onSharedElementTimeout && (({nativeEvent}) => onSharedElementTimeout(nativeEvent.crumb, nativeEvent.sharedElements))}>
+            <PopSync<{crumb: number, prewarm?: boolean}>
+                data={crumbs.concat(nextCrumb || []).map((_, crumb) => ({crumb})).concat(prewarm ? [{crumb: keys.length, prewarm}] : [])}
+                getKey={({crumb, prewarm}) => !prewarm ? keys[crumb] : `${counter}-prewarm`}>
+                {(scenes, popNative) => scenes.map(({key, data: {crumb, prewarm}}) => (
                     <Scene
                         key={key}
                         crumb={crumb}
                         sceneKey={key}
+                        prewarmLink={prewarm ? prewarmLink : undefined}
                         rest={rest}
                         unmountStyle={unmountStyle}
                         crumbStyle={crumbStyle}
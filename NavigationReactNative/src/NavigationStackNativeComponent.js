@@ -10,8 +10,10 @@ type NativeProps = $ReadOnly<{|
   enterAnim: string,
   exitAnim: string,
   enterAnimOff: boolean,
-  sharedElement: string,
-  oldSharedElement: string,
+  sharedElements: $ReadOnlyArray<string>,
+  oldSharedElements: $ReadOnlyArray<string>,
+  sharedElementTimeout: Int32,
+  hibernationDepth: Int32,
   mostRecentEventCount: Int32,
   onNavigateToTop: DirectEventHandler<null>,
   onWillNavigateBack: DirectEventHandler<$ReadOnly<{|
@@ -20,6 +22,20 @@ type NativeProps = $ReadOnly<{|
   onRest: DirectEventHandler<$ReadOnly<{|
     crumb: Int32,
     eventCount: Int32,
+  |}>>,
+  onTransition: DirectEventHandler<$ReadOnly<{|
+    stateKey: string,
+    crumb: Int32,
+    commit?: Double,
+    createView?: Double,
+    firstDraw?: Double,
+    rest?: Double,
+    postpone?: Double,
+    layerRebuilds?: Double,
+  |}>>,
+  onSharedElementTimeout: DirectEventHandler<$ReadOnly<{|
+    crumb: Int32,
+    sharedElements: $ReadOnlyArray<string>,
   |}>>
 |}>;
 
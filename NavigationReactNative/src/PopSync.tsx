@@ -2,7 +2,7 @@ import * as React from 'react';
 import { Platform } from 'react-native';
 type PopSyncProps<T> = {data: T[], getKey: any, children: (items: {key: string, data: T}[], popNative: (key: string) => void) => React.ReactElement<any>[]};
 
-class PopSync<T> extends React.Component<PopSyncProps<T>, any> {
+class PopSync<T extends {prewarm?: boolean}> extends React.Component<PopSyncProps<T>, any> {
     constructor(props) {
         super(props);
         this.state = {items: [], data: null};
@@ -15,6 +15,7 @@ class PopSync<T> extends React.Component<PopSyncProps<T>, any> {
         var dataByKey = data.reduce((acc, item, index) => ({...acc, [getKey(item)]: {...item, index}}), {});
         var itemsByKey = prevItems.reduce((acc, item) => ({...acc, [item.key]: item}), {});
         var items = prevItems
+            .filter(item => dataByKey[item.key] || !item.data.prewarm)
             .map(item => {
                 var matchedItem = dataByKey[item.key];
                 var nextItem: any = {key: item.key, data: matchedItem || item.data};
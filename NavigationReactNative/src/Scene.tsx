@@ -4,14 +4,14 @@ import { StateNavigator, StateContext, State, Crumb } from 'navigation';
 import { NavigationContext, NavigationEvent } from 'navigation-react';
 import BackButton from './BackButton';
 import Freeze from './Freeze';
-type SceneProps = { crumb: number, sceneKey: string, rest: boolean, renderScene: (state: State, data: any) => ReactNode, crumbStyle: any, unmountStyle: any, hidesTabBar: any, backgroundColor: any, title: (state: State, data: any) => string, popped: (key: string) => void, navigationEvent: NavigationEvent };
-type SceneState = { navigationEvent: NavigationEvent };
+type SceneProps = { crumb: number, sceneKey: string, prewarmLink: string, rest: boolean, renderScene: (state: State, data: any) => ReactNode, crumbStyle: any, unmountStyle: any, hidesTabBar: any, backgroundColor: any, title: (state: State, data: any) => string, popped: (key: string) => void, navigationEvent: NavigationEvent };
+type SceneState = { navigationEvent: NavigationEvent, hibernated: boolean };
 
 class Scene extends React.Component<SceneProps, SceneState> {
     private timer: any;
     constructor(props) {
         super(props);
-        this.state = {navigationEvent: null};
+        this.state = {navigationEvent: null, hibernated: false};
         this.handleBack = this.handleBack.bind(this);
         this.onBeforeNavigate = this.onBeforeNavigate.bind(this);
     }
@@ -25,8 +25,12 @@ class Scene extends React.Component<SceneProps, SceneState> {
         this.backgroundPeekNavigate();
     }
     static getDerivedStateFromProps(props: SceneProps, {navigationEvent: prevNavigationEvent}: SceneState) {
-        var {crumb, navigationEvent} = props;
+        var {crumb, prewarmLink, navigationEvent} = props;
         var {state, oldState, oldUrl, crumbs} = navigationEvent.stateNavigator.stateContext;
+        if (prewarmLink && state && crumbs.length < crumb) {
+            var prevUrl = prevNavigationEvent?.stateNavigator?.stateContext?.url;
+            return prevUrl !== prewarmLink ? {navigationEvent: Scene.createPrewarmEvent(prewarmLink, navigationEvent)} : null;
+        }
         if (!state || crumbs.length !== crumb)
             return null;
         if (!oldUrl || !prevNavigationEvent)
@@ -35,10 +39,10 @@ class Scene extends React.Component<SceneProps, SceneState> {
         var replace = oldCrumbs.length === crumb && oldState !== state;
         return !replace ? {navigationEvent} : null;
     }
-    shouldComponentUpdate({crumb, rest, navigationEvent: {stateNavigator}}: SceneProps, {navigationEvent}: SceneState) {
+    shouldComponentUpdate({crumb, rest, navigationEvent: {stateNavigator}}: SceneProps, {navigationEvent, hibernated}: SceneState) {
         var {crumbs} = stateNavigator.stateContext;
         var freezableOrCurrent = rest && (!!React.Suspense || crumbs.length === crumb);
-        return freezableOrCurrent || navigationEvent !== this.state.navigationEvent || (this.fluentPeekable() && !this.timer);
+        return freezableOrCurrent || navigationEvent !== this.state.navigationEvent || hibernated !== this.state.hibernated || (this.fluentPeekable() && !this.timer);
     }
     componentDidUpdate() {
         this.backgroundPeekNavigate();
@@ -79,17 +83,37 @@ class Scene extends React.Component<SceneProps, SceneState> {
         var {crumb, navigationEvent} = this.props;
         var {crumbs, nextCrumb} = navigationEvent.stateNavigator.stateContext;
         var {stateNavigator} = navigationEvent;
-        var peekNavigator = new StateNavigator(stateNavigator, stateNavigator.historyManager);
-        peekNavigator.stateContext = Scene.createStateContext(crumbs, nextCrumb, crumb, navigationEvent);
-        peekNavigator.configure = stateNavigator.configure;
-        peekNavigator.onBeforeNavigate = stateNavigator.onBeforeNavigate;
-        peekNavigator.offBeforeNavigate = stateNavigator.offBeforeNavigate;
-        peekNavigator.onNavigate = stateNavigator.onNavigate;
-        peekNavigator.offNavigate = stateNavigator.offNavigate;
-        peekNavigator.navigateLink = stateNavigator.navigateLink.bind(stateNavigator);
+        var peekNavigator = Scene.createNavigator(stateNavigator, Scene.createStateContext(crumbs, nextCrumb, crumb, navigationEvent));
         var {oldState, state, data, asyncData} = peekNavigator.stateContext;
         this.setState({navigationEvent: {oldState, state, data, asyncData, stateNavigator: peekNavigator}});
     }
+    static createNavigator(stateNavigator: StateNavigator, stateContext: StateContext) {
+        var navigator = new StateNavigator(stateNavigator, stateNavigator.historyManager);
+        navigator.stateContext = stateContext;
+        navigator.configure = stateNavigator.configure;
+        navigator.onBeforeNavigate = stateNavigator.onBeforeNavigate;
+        navigator.offBeforeNavigate = stateNavigator.offBeforeNavigate;
+        navigator.onNavigate = stateNavigator.onNavigate;
+        navigator.offNavigate = stateNavigator.offNavigate;
+        navigator.navigateLink = stateNavigator.navigateLink.bind(stateNavigator);
+        return navigator;
+    }
+    static createPrewarmEvent(link: string, {stateNavigator}: NavigationEvent) {
+        var {state, data, crumbs} = stateNavigator.parseLink(link);
+        var stateContext = new StateContext();
+        stateContext.state = state;
+        stateContext.data = data;
+        stateContext.url = link;
+        stateContext.title = state.title;
+        stateContext.crumbs = crumbs;
+        stateContext.nextCrumb = new Crumb(data, state, link, null, true, null);
+        var {state: oldState, data: oldData, url: oldUrl} = stateNavigator.stateContext;
+        stateContext.oldState = stateContext.previousState = oldState;
+        stateContext.oldData = stateContext.previousData = oldData;
+        stateContext.oldUrl = stateContext.previousUrl = oldUrl;
+        var prewarmNavigator = Scene.createNavigator(stateNavigator, stateContext);
+        return {oldState, state, data, asyncData: undefined, stateNavigator: prewarmNavigator};
+    }
     static createStateContext(crumbs: Crumb[], nextCrumb: Crumb, crumb: number, navigationEvent: NavigationEvent) {
         var stateContext = new StateContext();
         var {state, data, url, title} = crumbs[crumb];
@@ -130,8 +154,8 @@ class Scene extends React.Component<SceneProps, SceneState> {
         return {enterAnim, exitAnim, hidesTabBar, backgroundColor};
     }
     render() {
-        var {navigationEvent} = this.state;
-        var {crumb, title, sceneKey, rest, popped, navigationEvent: {stateNavigator}} = this.props;
+        var {navigationEvent, hibernated} = this.state;
+        var {crumb, title, sceneKey, prewarmLink, rest, popped, navigationEvent: {stateNavigator}} = this.props;
         var freezable = rest && !!React.Suspense;
         var {crumbs} = stateNavigator.stateContext;
         var stateContext = navigationEvent?.stateNavigator?.stateContext;
@@ -150,13 +174,17 @@ class Scene extends React.Component<SceneProps, SceneState> {
                     }}
                     crumb={crumb}
                     sceneKey={sceneKey}
+                    stateKey={state.key}
+                    prewarm={!!prewarmLink}
                     {...this.getAnimation()}
                     title={title(state, data)}
                     style={styles.scene}
-                    onPopped={() => popped(sceneKey)}>
-                    <BackButton onPress={this.handleBack} />
+                    onPopped={() => popped(sceneKey)}
+                    onHibernate={() => this.setState({hibernated: true})}
+                    onWake={() => this.setState({hibernated: false})}>
+                    {!prewarmLink && <BackButton onPress={this.handleBack} />}
                     <NavigationContext.Provider value={navigationEvent}>
-                        {navigationEvent && this.props.renderScene(state, data)}
+                        {navigationEvent && !hibernated && this.props.renderScene(state, data)}
                     </NavigationContext.Provider>
                 </NVScene>
             </Freeze>
@@ -7,12 +7,16 @@ import codegenNativeComponent from 'react-native/Libraries/Utilities/codegenNati
 type NativeProps = $ReadOnly<{|
   ...ViewProps,
   sceneKey: string,
+  stateKey: string,
   crumb: Int32,
   title: string,
   enterAnim: string,
   exitAnim: string,
   hidesTabBar: boolean,
-  onPopped: DirectEventHandler<null>
+  prewarm: boolean,
+  onPopped: DirectEventHandler<null>,
+  onHibernate: DirectEventHandler<null>,
+  onWake: DirectEventHandler<null>
 |}>;
 
 export default (codegenNativeComponent<NativeProps>(
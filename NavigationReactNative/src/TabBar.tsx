@@ -44,7 +44,7 @@ class TabBar extends React.Component<any, any> {
         return false;
     }
     render() {
-        var {children, labelVisibilityMode, barTintColor, selectedTintColor, unselectedTintColor, activeIndicatorColor, rippleColor, bottomTabs, scrollable, primary, scrollsToTop} = this.props;
+        var {children, labelVisibilityMode, barTintColor, selectedTintColor, unselectedTintColor, activeIndicatorColor, rippleColor, bottomTabs, scrollable, primary, scrollsToTop, offscreenPageLimit} = this.props;
         const Material3 = global.__turboModuleProxy != null ? require("./NativeMaterial3Module").default : NativeModules.Material3;
         const { on: material3 } = Platform.OS === 'android' ? Material3.getConstants() : { on: false };
         bottomTabs = bottomTabs != null ? bottomTabs : primary;
@@ -96,6 +96,7 @@ class TabBar extends React.Component<any, any> {
                     unselectedTintColor={unselectedTintColor}
                     badgeColor={badgeColor}
                     scrollsToTop={scrollsToTop}
+                    offscreenPageLimit={offscreenPageLimit}
                     fontFamily={fontFamily} fontWeight={fontWeight}
                     fontStyle={fontStyle} fontSize={fontSize}
                     mostRecentEventCount={this.state.mostRecentEventCount}
@@ -105,7 +106,8 @@ class TabBar extends React.Component<any, any> {
                             .filter(child => !!child)
                             .map((child: any, index) => {
                                 var selected = index === this.state.selectedTab;
-                                var freezable = Math.abs(index - this.state.selectedTab) > (Platform.OS === 'android' && !primary ? 1 : 0);
+                                var pageLimit = offscreenPageLimit != null ? Math.max(offscreenPageLimit, 0) : 1;
+                                var freezable = Math.abs(index - this.state.selectedTab) > (Platform.OS === 'android' && !primary ? pageLimit : 0);
                                 return React.cloneElement(child, {...child.props, index, selected, freezable})
                             })}
                 </TabBar>}
@@ -9,6 +9,7 @@ type NativeProps = $ReadOnly<{|
   tabCount: Int32,
   selectedTab: Int32,
   scrollsToTop: boolean,
+  offscreenPageLimit?: WithDefault<Int32, -1>,
   mostRecentEventCount: Int32,
   onTabSelected: DirectEventHandler<$ReadOnly<{|
     tab: Int32,
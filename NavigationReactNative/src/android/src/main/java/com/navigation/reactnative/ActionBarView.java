@@ -4,6 +4,7 @@ import android.content.Context;
 import android.view.ViewGroup;
 
 import androidx.annotation.UiThread;
+import androidx.core.util.Pools;
 
 import com.facebook.react.bridge.GuardedRunnable;
 import com.facebook.react.bridge.ReactContext;
@@ -14,12 +15,10 @@ import com.facebook.react.uimanager.FabricViewStateManager;
 import com.facebook.react.uimanager.PixelUtil;
 import com.facebook.react.uimanager.UIManagerHelper;
 import com.facebook.react.uimanager.UIManagerModule;
-import com.facebook.react.uimanager.events.Event;
 import com.facebook.react.uimanager.events.EventDispatcher;
 import com.facebook.react.uimanager.events.RCTEventEmitter;
 
 public class ActionBarView extends ViewGroup implements FabricViewStateManager.HasFabricViewStateManager {
-    private boolean layoutRequested = false;
     private final FabricViewStateManager fabricViewStateManager = new FabricViewStateManager();
 
     public ActionBarView(Context context) {
@@ -33,13 +32,13 @@ public class ActionBarView extends ViewGroup implements FabricViewStateManager.H
     void expanded() {
         ReactContext reactContext = (ReactContext) getContext();
         EventDispatcher eventDispatcher = UIManagerHelper.getEventDispatcherForReactTag(reactContext, getId());
-        eventDispatcher.dispatchEvent(new ActionBarView.ExpandedEvent(getId()));
+        eventDispatcher.dispatchEvent(ActionBarView.ExpandedEvent.obtain(getId()));
     }
 
     void collapsed() {
         ReactContext reactContext = (ReactContext) getContext();
         EventDispatcher eventDispatcher = UIManagerHelper.getEventDispatcherForReactTag(reactContext, getId());
-        eventDispatcher.dispatchEvent(new ActionBarView.CollapsedEvent(getId()));
+        eventDispatcher.dispatchEvent(ActionBarView.CollapsedEvent.obtain(getId()));
     }
 
     void changeBounds(final int width, final int height, int oldw, int oldh) {
@@ -96,31 +95,22 @@ public class ActionBarView extends ViewGroup implements FabricViewStateManager.H
     @Override
     public void requestLayout() {
         super.requestLayout();
-        if (!layoutRequested) {
-            layoutRequested = true;
-            post(measureAndLayout);
-        }
+        LayoutScheduler.requestLayout(this);
     }
 
-    private final Runnable measureAndLayout = new Runnable() {
-        @Override
-        public void run() {
-            layoutRequested = false;
-            measure(
-                MeasureSpec.makeMeasureSpec(getWidth(), MeasureSpec.EXACTLY),
-                MeasureSpec.makeMeasureSpec(getHeight(), MeasureSpec.EXACTLY));
-            layout(getLeft(), getTop(), getRight(), getBottom());
-        }
-    };
-
     @Override
     public FabricViewStateManager getFabricViewStateManager() {
         return fabricViewStateManager;
     }
 
-    static class ExpandedEvent extends Event<ActionBarView.ExpandedEvent> {
-        public ExpandedEvent(int viewId) {
-            super(viewId);
+    static class ExpandedEvent extends PooledEvent<ActionBarView.ExpandedEvent> {
+        private static final Pools.SynchronizedPool<ExpandedEvent> pool = new Pools.SynchronizedPool<>(3);
+
+        private ExpandedEvent() {
+        }
+
+        static ExpandedEvent obtain(int viewId) {
+            return acquire(pool, ExpandedEvent::new, viewId);
         }
 
         @Override
@@ -134,9 +124,14 @@ public class ActionBarView extends ViewGroup implements FabricViewStateManager.H
         }
     }
 
-    static class CollapsedEvent extends Event<ActionBarView.CollapsedEvent> {
-        public CollapsedEvent(int viewId) {
-            super(viewId);
+    static class CollapsedEvent extends PooledEvent<ActionBarView.CollapsedEvent> {
+        private static final Pools.SynchronizedPool<CollapsedEvent> pool = new Pools.SynchronizedPool<>(3);
+
+        private CollapsedEvent() {
+        }
+
+        static CollapsedEvent obtain(int viewId) {
+            return acquire(pool, CollapsedEvent::new, viewId);
         }
 
         @Override
@@ -3,24 +3,19 @@ package com.navigation.reactnative;
 import android.content.Context;
 import android.graphics.PorterDuff;
 import android.graphics.drawable.Drawable;
-import android.text.SpannableString;
-import android.text.style.AbsoluteSizeSpan;
-import android.text.style.StyleSpan;
-import android.text.style.TypefaceSpan;
 import android.view.MenuItem;
 import android.view.ViewGroup;
 import android.widget.ImageButton;
 
 import androidx.annotation.Nullable;
 import androidx.appcompat.view.CollapsibleActionView;
+import androidx.core.util.Pools;
 
 import com.facebook.react.bridge.ReactContext;
 import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.uimanager.UIManagerHelper;
-import com.facebook.react.uimanager.events.Event;
 import com.facebook.react.uimanager.events.EventDispatcher;
 import com.facebook.react.uimanager.events.RCTEventEmitter;
-import com.facebook.react.views.text.ReactTypefaceUtils;
 
 public class BarButtonView extends ViewGroup implements CollapsibleActionView {
     String testID;
@@ -133,19 +128,7 @@ public class BarButtonView extends ViewGroup implements CollapsibleActionView {
 
     void styleTitle() {
         if (menuItem != null && titleChanged) {
-            SpannableString titleSpannable = null;
-            if (title != null) {
-                titleSpannable = new SpannableString(title);
-                if (fontFamily != null)
-                    titleSpannable.setSpan(new TypefaceSpan(fontFamily), 0, title.length(), 0);
-                if (fontWeight != null)
-                    titleSpannable.setSpan(new StyleSpan(ReactTypefaceUtils.parseFontWeight(fontWeight)), 0, title.length(), 0);
-                if (fontStyle != null)
-                    titleSpannable.setSpan(new StyleSpan(ReactTypefaceUtils.parseFontStyle(fontStyle)), 0, title.length(), 0);
-                if (fontSize != null)
-                    titleSpannable.setSpan(new AbsoluteSizeSpan(fontSize, true), 0, title.length(), 0);
-            }
-            menuItem.setTitle(titleSpannable);
+            menuItem.setTitle(StyledText.get(getContext(), title, fontFamily, fontWeight, fontStyle, fontSize));
             titleChanged = false;
         }
     }
@@ -153,7 +136,7 @@ public class BarButtonView extends ViewGroup implements CollapsibleActionView {
     protected void press() {
         ReactContext reactContext = (ReactContext) getContext();
         EventDispatcher eventDispatcher = UIManagerHelper.getEventDispatcherForReactTag(reactContext, getId());
-        eventDispatcher.dispatchEvent(new BarButtonView.PressEvent(getId()));
+        eventDispatcher.dispatchEvent(BarButtonView.PressEvent.obtain(getId()));
     }
 
     @Override
@@ -186,9 +169,14 @@ public class BarButtonView extends ViewGroup implements CollapsibleActionView {
 
     }
 
-    static class PressEvent extends Event<BarButtonView.PressEvent> {
-        public PressEvent(int viewId) {
-            super(viewId);
+    static class PressEvent extends PooledEvent<BarButtonView.PressEvent> {
+        private static final Pools.SynchronizedPool<PressEvent> pool = new Pools.SynchronizedPool<>(3);
+
+        private PressEvent() {
+        }
+
+        static PressEvent obtain(int viewId) {
+            return acquire(pool, PressEvent::new, viewId);
         }
 
         @Override
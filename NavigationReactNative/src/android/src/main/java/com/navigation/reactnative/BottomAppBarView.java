@@ -19,13 +19,13 @@ import androidx.appcompat.widget.ActionMenuView;
 import androidx.appcompat.widget.AppCompatImageButton;
 import androidx.appcompat.widget.AppCompatImageView;
 import androidx.coordinatorlayout.widget.CoordinatorLayout;
+import androidx.core.util.Pools;
 import androidx.core.view.ViewCompat;
 
 import com.facebook.react.bridge.ReactContext;
 import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.modules.i18nmanager.I18nUtil;
 import com.facebook.react.uimanager.UIManagerHelper;
-import com.facebook.react.uimanager.events.Event;
 import com.facebook.react.uimanager.events.EventDispatcher;
 import com.facebook.react.uimanager.events.RCTEventEmitter;
 import com.google.android.material.bottomappbar.BottomAppBar;
@@ -51,7 +51,6 @@ public class BottomAppBarView extends BottomAppBar implements ActionView {
     private String overflowTestID;
     private final IconResolver.IconResolverListener navIconResolverListener;
     private final IconResolver.IconResolverListener overflowIconResolverListener;
-    private boolean layoutRequested = false;
     final ArrayList<View> children = new ArrayList<>();
 
     public BottomAppBarView(@NonNull Context context) {
@@ -87,7 +86,7 @@ public class BottomAppBarView extends BottomAppBar implements ActionView {
             public void onClick(View view) {
                 ReactContext reactContext = (ReactContext) getContext();
                 EventDispatcher eventDispatcher = UIManagerHelper.getEventDispatcherForReactTag(reactContext, getId());
-                eventDispatcher.dispatchEvent(new BottomAppBarView.NavigationPressEvent(getId()));
+                eventDispatcher.dispatchEvent(BottomAppBarView.NavigationPressEvent.obtain(getId()));
             }
         });
         setOnMenuItemClickListener(new OnMenuItemClickListener() {
@@ -246,26 +245,17 @@ public class BottomAppBarView extends BottomAppBar implements ActionView {
     @Override
     public void requestLayout() {
         super.requestLayout();
-        if (!layoutRequested) {
-            layoutRequested = true;
-            post(measureAndLayout);
-        }
+        LayoutScheduler.requestLayout(this);
     }
 
-    private final Runnable measureAndLayout = new Runnable() {
-        @Override
-        public void run() {
-            layoutRequested = false;
-            measure(
-                MeasureSpec.makeMeasureSpec(getWidth(), MeasureSpec.EXACTLY),
-                MeasureSpec.makeMeasureSpec(getHeight(), MeasureSpec.EXACTLY));
-            layout(getLeft(), getTop(), getRight(), getBottom());
+    static class NavigationPressEvent extends PooledEvent<BottomAppBarView.NavigationPressEvent> {
+        private static final Pools.SynchronizedPool<NavigationPressEvent> pool = new Pools.SynchronizedPool<>(3);
+
+        private NavigationPressEvent() {
         }
-    };
 
-    static class NavigationPressEvent extends Event<BottomAppBarView.NavigationPressEvent> {
-        public NavigationPressEvent(int viewId) {
-            super(viewId);
+        static NavigationPressEvent obtain(int viewId) {
+            return acquire(pool, NavigationPressEvent::new, viewId);
         }
 
         @Override
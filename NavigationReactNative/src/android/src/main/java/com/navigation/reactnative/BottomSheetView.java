@@ -5,12 +5,12 @@ import android.view.View;
 
 import androidx.annotation.NonNull;
 import androidx.coordinatorlayout.widget.CoordinatorLayout;
+import androidx.core.util.Pools;
 
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.ReactContext;
 import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.uimanager.UIManagerHelper;
-import com.facebook.react.uimanager.events.Event;
 import com.facebook.react.uimanager.events.EventDispatcher;
 import com.facebook.react.uimanager.events.RCTEventEmitter;
 import com.facebook.react.views.view.ReactViewGroup;
@@ -46,7 +46,7 @@ public class BottomSheetView extends ReactViewGroup {
                 detent = i;
                 ReactContext reactContext = (ReactContext) getContext();
                 EventDispatcher eventDispatcher = UIManagerHelper.getEventDispatcherForReactTag(reactContext, getId());
-                eventDispatcher.dispatchEvent(new BottomSheetView.DetentChangedEvent(getId(), detent, nativeEventCount));
+                eventDispatcher.dispatchEvent(BottomSheetView.DetentChangedEvent.obtain(getId(), detent, nativeEventCount));
             }
 
             @Override
@@ -56,14 +56,19 @@ public class BottomSheetView extends ReactViewGroup {
         bottomSheetBehavior.addBottomSheetCallback(bottomSheetCallback);
     }
 
-    static class DetentChangedEvent extends Event<BottomSheetView.DetentChangedEvent> {
-        private final int detent;
-        private final int eventCount;
+    static class DetentChangedEvent extends PooledEvent<BottomSheetView.DetentChangedEvent> {
+        private int detent;
+        private int eventCount;
+        private static final Pools.SynchronizedPool<DetentChangedEvent> pool = new Pools.SynchronizedPool<>(3);
 
-        public DetentChangedEvent(int viewId, int detent, int eventCount) {
-            super(viewId);
-            this.detent = detent;
-            this.eventCount = eventCount;
+        private DetentChangedEvent() {
+        }
+
+        static DetentChangedEvent obtain(int viewId, int detent, int eventCount) {
+            DetentChangedEvent event = acquire(pool, DetentChangedEvent::new, viewId);
+            event.detent = detent;
+            event.eventCount = eventCount;
+            return event;
         }
 
         @Override
@@ -4,7 +4,6 @@ import android.content.Context;
 import android.graphics.Typeface;
 import android.graphics.drawable.Drawable;
 
-import com.facebook.react.views.text.ReactTypefaceUtils;
 import com.google.android.material.appbar.AppBarLayout;
 import com.google.android.material.appbar.CollapsingToolbarLayout;
 
@@ -17,12 +16,13 @@ public class CollapsingBarView extends CollapsingToolbarLayout {
     private String largeTitleFontStyle;
     private boolean titleFontChanged = false;
     private boolean largeTitleFontChanged = false;
+    private int titleFontRequest = 0;
+    private int largeTitleFontRequest = 0;
     final Drawable defaultContentScrim;
     final int defaultTitleTextColor;
     final Typeface defaultCollapsedTitleTypeface;
     final Typeface defaultExpandedTitleTypeface;
     final int defaultTitleCollapseMode;
-    private boolean layoutRequested = false;
 
     public CollapsingBarView(Context context) {
         super(context);
@@ -39,6 +39,8 @@ public class CollapsingBarView extends CollapsingToolbarLayout {
     void setTitleFontFamily(String titleFontFamily) {
         this.titleFontFamily = titleFontFamily;
         titleFontChanged = true;
+        if (titleFontFamily != null)
+            TypefaceCache.preload(getContext(), titleFontFamily);
     }
 
     void setTitleFontWeight(String titleFontWeight) {
@@ -54,11 +56,13 @@ public class CollapsingBarView extends CollapsingToolbarLayout {
     void setLargeTitleFontFamily(String largeTitleFontFamily) {
         this.largeTitleFontFamily = largeTitleFontFamily;
         largeTitleFontChanged = true;
+        if (largeTitleFontFamily != null)
+            TypefaceCache.preload(getContext(), largeTitleFontFamily);
     }
 
     void setLargeTitleFontWeight(String largeTitleFontWeight) {
         this.largeTitleFontWeight = largeTitleFontWeight;
-        titleFontChanged = true;
+        largeTitleFontChanged = true;
     }
 
     void setLargeTitleFontStyle(String largeTitleFontStyle) {
@@ -68,15 +72,25 @@ public class CollapsingBarView extends CollapsingToolbarLayout {
 
     void styleTitle() {
         if (titleFontChanged) {
+            titleFontChanged = false;
+            final int request = ++titleFontRequest;
             if (titleFontFamily != null || titleFontWeight != null || titleFontStyle != null) {
-                setCollapsedTitleTypeface(ReactTypefaceUtils.applyStyles(defaultCollapsedTitleTypeface, ReactTypefaceUtils.parseFontStyle(titleFontStyle), ReactTypefaceUtils.parseFontWeight(titleFontWeight), titleFontFamily, getContext().getAssets()));
+                TypefaceCache.get(getContext(), defaultCollapsedTitleTypeface, titleFontFamily, titleFontWeight, titleFontStyle, typeface -> {
+                    if (request == titleFontRequest)
+                        setCollapsedTitleTypeface(typeface);
+                });
             } else {
                 setCollapsedTitleTypeface(defaultCollapsedTitleTypeface);
             }
         }
         if (largeTitleFontChanged) {
+            largeTitleFontChanged = false;
+            final int request = ++largeTitleFontRequest;
             if (largeTitleFontFamily != null || largeTitleFontWeight != null || largeTitleFontStyle != null) {
-                setExpandedTitleTypeface(ReactTypefaceUtils.applyStyles(defaultExpandedTitleTypeface, ReactTypefaceUtils.parseFontStyle(largeTitleFontStyle), ReactTypefaceUtils.parseFontWeight(largeTitleFontWeight), largeTitleFontFamily, getContext().getAssets()));
+                TypefaceCache.get(getContext(), defaultExpandedTitleTypeface, largeTitleFontFamily, largeTitleFontWeight, largeTitleFontStyle, typeface -> {
+                    if (request == largeTitleFontRequest)
+                        setExpandedTitleTypeface(typeface);
+                });
             } else {
                 setExpandedTitleTypeface(defaultExpandedTitleTypeface);
             }
@@ -86,26 +100,13 @@ public class CollapsingBarView extends CollapsingToolbarLayout {
     @Override
     protected void onAttachedToWindow() {
         super.onAttachedToWindow();
-        requestLayout();
+        super.requestLayout();
+        LayoutScheduler.requestLayout(this, LayoutScheduler.ATTACH);
     }
 
     @Override
     public void requestLayout() {
         super.requestLayout();
-        if (!layoutRequested) {
-            layoutRequested = true;
-            post(measureAndLayout);
-        }
+        LayoutScheduler.requestLayout(this);
     }
-
-    private final Runnable measureAndLayout = new Runnable() {
-        @Override
-        public void run() {
-            layoutRequested = false;
-            measure(
-                MeasureSpec.makeMeasureSpec(getWidth(), MeasureSpec.EXACTLY),
-                MeasureSpec.makeMeasureSpec(getHeight(), MeasureSpec.EXACTLY));
-            layout(getLeft(), getTop(), getRight(), getBottom());
-        }
-    };
 }
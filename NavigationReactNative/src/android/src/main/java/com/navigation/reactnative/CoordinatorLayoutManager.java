@@ -4,7 +4,6 @@ import android.view.View;
 import android.widget.ScrollView;
 
 import androidx.coordinatorlayout.widget.CoordinatorLayout;
-import androidx.viewpager.widget.ViewPager;
 import androidx.viewpager2.widget.ViewPager2;
 
 import com.facebook.react.uimanager.ThemedReactContext;
@@ -31,8 +30,9 @@ public class CoordinatorLayoutManager extends ViewGroupManager<CoordinatorLayout
     @ReactProp(name = "overlap")
     public void setOverlap(CoordinatorLayoutView view, int overlap) {
         view.overlap = overlap;
-        if (view.getScrollView() != null) {
-            CoordinatorLayout.LayoutParams params = (CoordinatorLayout.LayoutParams) view.getScrollView().getLayoutParams();
+        View scrollTarget = view.getScrollTarget();
+        if (scrollTarget != null && scrollTarget.getLayoutParams() instanceof CoordinatorLayout.LayoutParams) {
+            CoordinatorLayout.LayoutParams params = (CoordinatorLayout.LayoutParams) scrollTarget.getLayoutParams();
             if (params.getBehavior() != null)
                 ((AppBarLayout.ScrollingViewBehavior) params.getBehavior()).setOverlayTop(overlap);
         }
@@ -41,7 +41,7 @@ public class CoordinatorLayoutManager extends ViewGroupManager<CoordinatorLayout
     @Override
     public void addView(CoordinatorLayoutView parent, View child, int index) {
         super.addView(parent, child, index);
-        if (child instanceof ScrollView || child instanceof ViewPager || child instanceof ViewPager2) {
+        if (child instanceof ScrollView || child instanceof ViewPager2) {
             CoordinatorLayout.LayoutParams params = (CoordinatorLayout.LayoutParams) child.getLayoutParams();
             AppBarLayout.ScrollingViewBehavior behavior = new AppBarLayout.ScrollingViewBehavior();
             behavior.setOverlayTop(parent.overlap);
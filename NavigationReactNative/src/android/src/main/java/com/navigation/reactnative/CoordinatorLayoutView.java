@@ -2,13 +2,17 @@ package com.navigation.reactnative;
 
 import android.content.Context;
 import android.view.MotionEvent;
+import android.view.VelocityTracker;
 import android.view.View;
 import android.view.ViewConfiguration;
 import android.view.ViewGroup;
+import android.widget.HorizontalScrollView;
+import android.widget.OverScroller;
 import android.widget.ScrollView;
 
 import androidx.coordinatorlayout.widget.CoordinatorLayout;
 import androidx.core.view.ViewCompat;
+import androidx.recyclerview.widget.RecyclerView;
 import androidx.viewpager2.widget.ViewPager2;
 
 import com.facebook.react.modules.i18nmanager.I18nUtil;
@@ -16,6 +20,8 @@ import com.facebook.react.uimanager.ReactZIndexedViewGroup;
 import com.facebook.react.uimanager.ViewGroupDrawingOrderHelper;
 import com.facebook.react.uimanager.events.NativeGestureUtil;
 
+import java.util.List;
+
 public class CoordinatorLayoutView extends CoordinatorLayout implements ReactZIndexedViewGroup {
     int overlap = 0;
     private boolean dragging = false;
@@ -24,84 +30,157 @@ public class CoordinatorLayoutView extends CoordinatorLayout implements ReactZIn
     private int activePointerId;
     private final int[] scrollOffset = new int[2];
     private final int[] scrollConsumed = new int[2];
-    private boolean layoutRequested = false;
+    private View scrollTarget;
+    private boolean scrollTargetResolved = false;
+    private View nestedScrollTarget;
+    private VelocityTracker velocityTracker;
+    private final int minimumFlingVelocity;
+    private final int maximumFlingVelocity;
+    private final OverScroller flingScroller;
+    private View flingTarget;
+    private int lastFlingY;
     private final ViewGroupDrawingOrderHelper drawingOrderHelper;
 
     public CoordinatorLayoutView(Context context){
         super(context);
         ViewCompat.setLayoutDirection(this, !I18nUtil.getInstance().isRTL(context) ? ViewCompat.LAYOUT_DIRECTION_LTR : ViewCompat.LAYOUT_DIRECTION_RTL);
-        touchSlop = ViewConfiguration.get(context).getScaledTouchSlop();
+        ViewConfiguration viewConfiguration = ViewConfiguration.get(context);
+        touchSlop = viewConfiguration.getScaledTouchSlop();
+        minimumFlingVelocity = viewConfiguration.getScaledMinimumFlingVelocity();
+        maximumFlingVelocity = viewConfiguration.getScaledMaximumFlingVelocity();
+        flingScroller = new OverScroller(context);
         drawingOrderHelper = new ViewGroupDrawingOrderHelper(this);
     }
 
     @Override
     public void onAttachedToWindow() {
         super.onAttachedToWindow();
-        requestLayout();
+        super.requestLayout();
+        LayoutScheduler.requestLayout(this, LayoutScheduler.ATTACH);
     }
 
     @Override
     public void requestLayout() {
         super.requestLayout();
-        if (!layoutRequested) {
-            layoutRequested = true;
-            post(measureAndLayout);
-        }
+        LayoutScheduler.requestLayout(this);
     }
 
-    private final Runnable measureAndLayout = new Runnable() {
-        @Override
-        public void run() {
-            layoutRequested = false;
-            measure(
-                MeasureSpec.makeMeasureSpec(getWidth(), MeasureSpec.EXACTLY),
-                MeasureSpec.makeMeasureSpec(getHeight(), MeasureSpec.EXACTLY));
-            layout(getLeft(), getTop(), getRight(), getBottom());
-        }
-    };
-
     void scrollToTop() {
         for(int i = 0; i < getChildCount(); i++) {
             if (getChildAt(i) instanceof NavigationBarView)
                 ((NavigationBarView) getChildAt(i)).setExpanded(true);
             if (getChildAt(i) instanceof ScrollView)
                 ((ScrollView) getChildAt(i)).smoothScrollTo(0,0);
-            if (getChildAt(i) instanceof TabBarPagerView)
-                ((TabBarPagerView) getChildAt(i)).scrollToTop();
             if (getChildAt(i) instanceof ViewPager2)
-                TabBarPagerRTLManager.getAdapter((ViewPager2) getChildAt(i)).scrollToTop();
+                TabBarPager.getAdapter((ViewPager2) getChildAt(i)).scrollToTop();
+        }
+    }
+
+    View getScrollTarget() {
+        if (!scrollTargetResolved) {
+            scrollTarget = findScrollTarget();
+            scrollTargetResolved = true;
         }
+        return scrollTarget;
     }
 
-    ScrollView getScrollView() {
+    private View findScrollTarget() {
         for(int i = 0; i < getChildCount(); i++) {
-            if (getChildAt(i) instanceof ScrollView)
-                return (ScrollView) getChildAt(i);
-            if (getChildAt(i) instanceof TabBarPagerView) {
-                TabBarPagerView tabBarView = ((TabBarPagerView) getChildAt(i));
-                View tab = tabBarView.getTabAt(tabBarView.getCurrentItem()).content.get(0);
-                return tab instanceof ScrollView ? (ScrollView) tab : null;
-            }
-            if (getChildAt(i) instanceof ViewPager2) {
-                ViewPager2 tabBarView = ((ViewPager2) getChildAt(i));
-                View tab = TabBarPagerRTLManager.getAdapter(tabBarView).getTabAt(tabBarView.getCurrentItem()).content.get(0);
-                return tab instanceof ScrollView ? (ScrollView) tab : null;
+            View child = getChildAt(i);
+            if (isScrollTarget(child))
+                return child;
+            if (child instanceof ViewPager2) {
+                ViewPager2 tabBarPager = (ViewPager2) child;
+                TabBarPagerAdapter adapter = TabBarPager.getAdapter(tabBarPager);
+                if (adapter == null || tabBarPager.getCurrentItem() >= adapter.getTabsCount())
+                    return null;
+                List<View> content = adapter.getTabAt(tabBarPager.getCurrentItem()).content;
+                View tab = content.size() > 0 ? content.get(0) : null;
+                return isScrollTarget(tab) ? tab : null;
             }
         }
         return null;
     }
 
+    private static boolean isScrollTarget(View view) {
+        return view instanceof ScrollView || view instanceof HorizontalScrollView || view instanceof RecyclerView;
+    }
+
+    void invalidateScrollTarget() {
+        scrollTargetResolved = false;
+        scrollTarget = null;
+    }
+
+    private void onChildAdded(View child) {
+        invalidateScrollTarget();
+        if (child instanceof ViewPager2) {
+            ((ViewPager2) child).registerOnPageChangeCallback(pageChangeCallback);
+            if (TabBarPager.getAdapter((ViewPager2) child) != null)
+                TabBarPager.getAdapter((ViewPager2) child).registerAdapterDataObserver(tabsObserver);
+        }
+    }
+
+    private void onChildRemoved(View child) {
+        invalidateScrollTarget();
+        if (child instanceof ViewPager2) {
+            ((ViewPager2) child).unregisterOnPageChangeCallback(pageChangeCallback);
+            if (TabBarPager.getAdapter((ViewPager2) child) != null)
+                TabBarPager.getAdapter((ViewPager2) child).unregisterAdapterDataObserver(tabsObserver);
+        }
+    }
+
+    private final ViewPager2.OnPageChangeCallback pageChangeCallback = new ViewPager2.OnPageChangeCallback() {
+        @Override
+        public void onPageSelected(int position) {
+            invalidateScrollTarget();
+        }
+    };
+
+    private final RecyclerView.AdapterDataObserver tabsObserver = new RecyclerView.AdapterDataObserver() {
+        @Override
+        public void onChanged() {
+            invalidateScrollTarget();
+        }
+
+        @Override
+        public void onItemRangeChanged(int positionStart, int itemCount) {
+            invalidateScrollTarget();
+        }
+
+        @Override
+        public void onItemRangeInserted(int positionStart, int itemCount) {
+            invalidateScrollTarget();
+        }
+
+        @Override
+        public void onItemRangeRemoved(int positionStart, int itemCount) {
+            invalidateScrollTarget();
+        }
+
+        @Override
+        public void onItemRangeMoved(int fromPosition, int toPosition, int itemCount) {
+            invalidateScrollTarget();
+        }
+    };
+
     @Override
     public boolean onInterceptTouchEvent(MotionEvent ev) {
-        ScrollView scrollView = getScrollView();
-        boolean cannotScroll = scrollView != null && scrollView.getScrollY() == 0 && !scrollView.canScrollVertically(1);
-        if (cannotScroll) {
-            int action = ev.getAction();
-            switch (action & MotionEvent.ACTION_MASK) {
+        int action = ev.getAction() & MotionEvent.ACTION_MASK;
+        if (action == MotionEvent.ACTION_DOWN) {
+            dragging = false;
+            stopFling();
+            View target = getScrollTarget();
+            nestedScrollTarget = target != null && !target.canScrollVertically(-1) && !target.canScrollVertically(1) ? target : null;
+        }
+        if (nestedScrollTarget != null) {
+            switch (action) {
                 case MotionEvent.ACTION_DOWN: {
-                    dragging = false;
                     lastMotionY = (int) ev.getY();
                     activePointerId = ev.getPointerId(0);
+                    if (velocityTracker == null)
+                        velocityTracker = VelocityTracker.obtain();
+                    velocityTracker.clear();
+                    velocityTracker.addMovement(ev);
                     break;
                 }
                 case MotionEvent.ACTION_MOVE:
@@ -110,6 +189,8 @@ public class CoordinatorLayoutView extends CoordinatorLayout implements ReactZIn
                     int deltaY = lastMotionY - y;
                     if (Math.abs(deltaY) > touchSlop)
                         dragging = true;
+                    if (velocityTracker != null && !dragging)
+                        velocityTracker.addMovement(ev);
                     break;
             }
         }
@@ -121,35 +202,116 @@ public class CoordinatorLayoutView extends CoordinatorLayout implements ReactZIn
     @Override
     public boolean onTouchEvent(MotionEvent ev) {
         if (dragging) {
-            ScrollView scrollView = getScrollView();
+            View scrollTarget = nestedScrollTarget;
+            if (velocityTracker != null)
+                velocityTracker.addMovement(ev);
             int action = ev.getAction();
             switch (action & MotionEvent.ACTION_MASK) {
                 case MotionEvent.ACTION_MOVE: {
-                    scrollView.startNestedScroll(SCROLL_AXIS_VERTICAL);
+                    ViewCompat.startNestedScroll(scrollTarget, ViewCompat.SCROLL_AXIS_VERTICAL);
                     int activePointerIndex = ev.findPointerIndex(activePointerId);
                     int y = (int) ev.getY(activePointerIndex);
                     int deltaY = lastMotionY - y;
                     lastMotionY = y;
-                    if (scrollView.dispatchNestedPreScroll(0, deltaY, scrollConsumed, scrollOffset))
+                    if (ViewCompat.dispatchNestedPreScroll(scrollTarget, 0, deltaY, scrollConsumed, scrollOffset))
                         deltaY -= scrollConsumed[1];
-                    scrollView.dispatchNestedScroll(0, 0, 0, deltaY, scrollOffset);
+                    ViewCompat.dispatchNestedScroll(scrollTarget, 0, 0, 0, deltaY, scrollOffset);
                     break;
                 }
-                case MotionEvent.ACTION_CANCEL:
                 case MotionEvent.ACTION_UP:
                     dragging = false;
-                    scrollView.stopNestedScroll();
+                    if (!fling(scrollTarget))
+                        ViewCompat.stopNestedScroll(scrollTarget);
+                    recycleVelocityTracker();
+                    break;
+                case MotionEvent.ACTION_CANCEL:
+                    dragging = false;
+                    ViewCompat.stopNestedScroll(scrollTarget);
+                    recycleVelocityTracker();
                     break;
             }
         }
         return super.onTouchEvent(ev) || dragging;
     }
 
+    private boolean fling(View scrollTarget) {
+        if (velocityTracker == null)
+            return false;
+        velocityTracker.computeCurrentVelocity(1000, maximumFlingVelocity);
+        float velocityY = -velocityTracker.getYVelocity(activePointerId);
+        if (Math.abs(velocityY) < minimumFlingVelocity)
+            return false;
+        if (ViewCompat.dispatchNestedPreFling(scrollTarget, 0, velocityY))
+            return false;
+        ViewCompat.dispatchNestedFling(scrollTarget, 0, velocityY, false);
+        flingTarget = scrollTarget;
+        lastFlingY = 0;
+        flingScroller.fling(0, 0, 0, (int) velocityY, 0, 0, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        ViewCompat.postOnAnimation(this, flingRunnable);
+        return true;
+    }
+
+    private void stopFling() {
+        if (flingTarget == null)
+            return;
+        flingScroller.forceFinished(true);
+        removeCallbacks(flingRunnable);
+        ViewCompat.stopNestedScroll(flingTarget);
+        flingTarget = null;
+    }
+
+    private final Runnable flingRunnable = new Runnable() {
+        @Override
+        public void run() {
+            if (flingTarget == null)
+                return;
+            if (!flingScroller.computeScrollOffset()) {
+                stopFling();
+                return;
+            }
+            int y = flingScroller.getCurrY();
+            int deltaY = y - lastFlingY;
+            lastFlingY = y;
+            if (deltaY != 0) {
+                scrollConsumed[1] = 0;
+                scrollOffset[1] = 0;
+                if (ViewCompat.dispatchNestedPreScroll(flingTarget, 0, deltaY, scrollConsumed, scrollOffset))
+                    deltaY -= scrollConsumed[1];
+                boolean moved = scrollConsumed[1] != 0 || scrollOffset[1] != 0;
+                if (deltaY != 0) {
+                    scrollOffset[1] = 0;
+                    ViewCompat.dispatchNestedScroll(flingTarget, 0, 0, 0, deltaY, scrollOffset);
+                    moved |= scrollOffset[1] != 0;
+                }
+                if (!moved) {
+                    stopFling();
+                    return;
+                }
+            }
+            ViewCompat.postOnAnimation(CoordinatorLayoutView.this, this);
+        }
+    };
+
+    private void recycleVelocityTracker() {
+        if (velocityTracker != null) {
+            velocityTracker.recycle();
+            velocityTracker = null;
+        }
+    }
+
+    @Override
+    public void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        stopFling();
+        recycleVelocityTracker();
+    }
+
     @Override
     public void addView(View child, int index, ViewGroup.LayoutParams params) {
         drawingOrderHelper.handleAddView(child);
         setChildrenDrawingOrderEnabled(drawingOrderHelper.shouldEnableCustomDrawingOrder());
         super.addView(child, index, params);
+        onChildAdded(child);
     }
 
     @Override
@@ -157,13 +319,16 @@ public class CoordinatorLayoutView extends CoordinatorLayout implements ReactZIn
         drawingOrderHelper.handleRemoveView(view);
         setChildrenDrawingOrderEnabled(drawingOrderHelper.shouldEnableCustomDrawingOrder());
         super.removeView(view);
+        onChildRemoved(view);
     }
 
     @Override
     public void removeViewAt(int index) {
-        drawingOrderHelper.handleRemoveView(getChildAt(index));
+        View child = getChildAt(index);
+        drawingOrderHelper.handleRemoveView(child);
         setChildrenDrawingOrderEnabled(drawingOrderHelper.shouldEnableCustomDrawingOrder());
         super.removeViewAt(index);
+        onChildRemoved(child);
     }
 
     @Override
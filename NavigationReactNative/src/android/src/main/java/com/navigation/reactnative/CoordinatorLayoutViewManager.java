@@ -5,7 +5,6 @@ import android.widget.ScrollView;
 
 import androidx.annotation.Nullable;
 import androidx.coordinatorlayout.widget.CoordinatorLayout;
-import androidx.viewpager.widget.ViewPager;
 import androidx.viewpager2.widget.ViewPager2;
 
 import com.facebook.react.uimanager.ThemedReactContext;
@@ -46,8 +45,9 @@ public class CoordinatorLayoutViewManager extends ViewGroupManager<CoordinatorLa
     @ReactProp(name = "overlap")
     public void setOverlap(CoordinatorLayoutView view, int overlap) {
         view.overlap = overlap;
-        if (view.getScrollView() != null) {
-            CoordinatorLayout.LayoutParams params = (CoordinatorLayout.LayoutParams) view.getScrollView().getLayoutParams();
+        View scrollTarget = view.getScrollTarget();
+        if (scrollTarget != null && scrollTarget.getLayoutParams() instanceof CoordinatorLayout.LayoutParams) {
+            CoordinatorLayout.LayoutParams params = (CoordinatorLayout.LayoutParams) scrollTarget.getLayoutParams();
             if (params.getBehavior() != null)
                 ((AppBarLayout.ScrollingViewBehavior) params.getBehavior()).setOverlayTop(overlap);
         }
@@ -56,7 +56,7 @@ public class CoordinatorLayoutViewManager extends ViewGroupManager<CoordinatorLa
     @Override
     public void addView(CoordinatorLayoutView parent, View child, int index) {
         super.addView(parent, child, index);
-        if (child instanceof ScrollView || child instanceof ViewPager || child instanceof ViewPager2) {
+        if (child instanceof ScrollView || child instanceof ViewPager2) {
             CoordinatorLayout.LayoutParams params = (CoordinatorLayout.LayoutParams) child.getLayoutParams();
             AppBarLayout.ScrollingViewBehavior behavior = new AppBarLayout.ScrollingViewBehavior();
             behavior.setOverlayTop(parent.overlap);
@@ -2,24 +2,19 @@ package com.navigation.reactnative;
 
 import android.content.Context;
 import android.graphics.Color;
-import android.text.SpannableString;
-import android.text.style.AbsoluteSizeSpan;
-import android.text.style.StyleSpan;
-import android.text.style.TypefaceSpan;
 import android.view.View;
 import android.view.ViewGroup;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.coordinatorlayout.widget.CoordinatorLayout;
+import androidx.core.util.Pools;
 
 import com.facebook.react.bridge.ReactContext;
 import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.uimanager.UIManagerHelper;
-import com.facebook.react.uimanager.events.Event;
 import com.facebook.react.uimanager.events.EventDispatcher;
 import com.facebook.react.uimanager.events.RCTEventEmitter;
-import com.facebook.react.views.text.ReactTypefaceUtils;
 import com.google.android.material.floatingactionbutton.ExtendedFloatingActionButton;
 
 public class ExtendedFloatingActionButtonView extends ExtendedFloatingActionButton {
@@ -48,7 +43,7 @@ public class ExtendedFloatingActionButtonView extends ExtendedFloatingActionButt
         iconResolverListener = this::setIcon;
         setOnClickListener(view -> {
             EventDispatcher eventDispatcher = UIManagerHelper.getEventDispatcherForReactTag((ReactContext) context, getId());
-            eventDispatcher.dispatchEvent(new PressEvent(getId()));
+            eventDispatcher.dispatchEvent(PressEvent.obtain(getId()));
         });
     }
 
@@ -99,19 +94,7 @@ public class ExtendedFloatingActionButtonView extends ExtendedFloatingActionButt
 
     void styleText() {
         if (textChanged) {
-            SpannableString textSpannable = null;
-            if (text != null) {
-                textSpannable = new SpannableString(text);
-                if (fontFamily != null)
-                    textSpannable.setSpan(new TypefaceSpan(fontFamily), 0, text.length(), 0);
-                if (fontWeight != null)
-                    textSpannable.setSpan(new StyleSpan(ReactTypefaceUtils.parseFontWeight(fontWeight)), 0, text.length(), 0);
-                if (fontStyle != null)
-                    textSpannable.setSpan(new StyleSpan(ReactTypefaceUtils.parseFontStyle(fontStyle)), 0, text.length(), 0);
-                if (fontSize != null)
-                    textSpannable.setSpan(new AbsoluteSizeSpan(fontSize, true), 0, text.length(), 0);
-            }
-            setText(textSpannable);
+            setText(StyledText.get(getContext(), text, fontFamily, fontWeight, fontStyle, fontSize));
             textChanged = false;
         }
     }
@@ -133,9 +116,14 @@ public class ExtendedFloatingActionButtonView extends ExtendedFloatingActionButt
         }
     }
 
-    static class PressEvent extends Event<ExtendedFloatingActionButtonView.PressEvent> {
-        public PressEvent(int viewId) {
-            super(viewId);
+    static class PressEvent extends PooledEvent<ExtendedFloatingActionButtonView.PressEvent> {
+        private static final Pools.SynchronizedPool<PressEvent> pool = new Pools.SynchronizedPool<>(3);
+
+        private PressEvent() {
+        }
+
+        static PressEvent obtain(int viewId) {
+            return acquire(pool, PressEvent::new, viewId);
         }
 
         @Override
@@ -8,11 +8,11 @@ import android.view.ViewGroup;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.coordinatorlayout.widget.CoordinatorLayout;
+import androidx.core.util.Pools;
 
 import com.facebook.react.bridge.ReactContext;
 import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.uimanager.UIManagerHelper;
-import com.facebook.react.uimanager.events.Event;
 import com.facebook.react.uimanager.events.EventDispatcher;
 import com.facebook.react.uimanager.events.RCTEventEmitter;
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
@@ -36,7 +36,7 @@ public class FloatingActionButtonView extends FloatingActionButton {
         iconResolverListener = this::setImageDrawable;
         setOnClickListener(view -> {
             EventDispatcher eventDispatcher = UIManagerHelper.getEventDispatcherForReactTag((ReactContext) context, getId());
-            eventDispatcher.dispatchEvent(new PressEvent(getId()));
+            eventDispatcher.dispatchEvent(PressEvent.obtain(getId()));
         });
     }
 
@@ -66,9 +66,14 @@ public class FloatingActionButtonView extends FloatingActionButton {
         this.setAnchor(this.anchor);
     }
 
-    static class PressEvent extends Event<FloatingActionButtonView.PressEvent> {
-        public PressEvent(int viewId) {
-            super(viewId);
+    static class PressEvent extends PooledEvent<FloatingActionButtonView.PressEvent> {
+        private static final Pools.SynchronizedPool<PressEvent> pool = new Pools.SynchronizedPool<>(3);
+
+        private PressEvent() {
+        }
+
+        static PressEvent obtain(int viewId) {
+            return acquire(pool, PressEvent::new, viewId);
         }
 
         @Override
@@ -0,0 +1,90 @@
+package com.navigation.reactnative;
+
+import android.view.View;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+
+import java.util.HashMap;
+import java.util.Map;
+
+class LayoutPasses {
+    private static final HashMap<String, HashMap<String, Counts>> layouts = new HashMap<>();
+    private static int passes = 0;
+    private static volatile double sampleRate = 0;
+
+    static void setSampleRate(double rate) {
+        sampleRate = Math.max(0, Math.min(rate, 1));
+    }
+
+    static boolean sample() {
+        double rate = sampleRate;
+        return rate > 0 && (rate >= 1 || Math.random() < rate);
+    }
+
+    static synchronized void recordPass() {
+        passes++;
+    }
+
+    static synchronized void recordLayout(View view, String trigger, long durationNanos) {
+        Counts counts = getCounts(view, trigger);
+        counts.count++;
+        counts.duration += durationNanos;
+        counts.maxDuration = Math.max(counts.maxDuration, durationNanos);
+    }
+
+    static synchronized void recordSkip(View view, String trigger) {
+        getCounts(view, trigger).skipped++;
+    }
+
+    private static Counts getCounts(View view, String trigger) {
+        String viewClass = view.getClass().getSimpleName();
+        HashMap<String, Counts> triggers = layouts.get(viewClass);
+        if (triggers == null) {
+            triggers = new HashMap<>();
+            layouts.put(viewClass, triggers);
+        }
+        Counts counts = triggers.get(trigger);
+        if (counts == null) {
+            counts = new Counts();
+            triggers.put(trigger, counts);
+        }
+        return counts;
+    }
+
+    static synchronized WritableMap getPasses() {
+        WritableMap views = Arguments.createMap();
+        for(Map.Entry<String, HashMap<String, Counts>> entry : layouts.entrySet()) {
+            WritableMap triggers = Arguments.createMap();
+            for(Map.Entry<String, Counts> triggerEntry : entry.getValue().entrySet()) {
+                triggers.putMap(triggerEntry.getKey(), triggerEntry.getValue().toMap());
+            }
+            views.putMap(entry.getKey(), triggers);
+        }
+        WritableMap counts = Arguments.createMap();
+        counts.putInt("passes", passes);
+        counts.putMap("views", views);
+        return counts;
+    }
+
+    static synchronized void reset() {
+        passes = 0;
+        layouts.clear();
+    }
+
+    private static class Counts {
+        private int count = 0;
+        private int skipped = 0;
+        private long duration = 0;
+        private long maxDuration = 0;
+
+        WritableMap toMap() {
+            WritableMap counts = Arguments.createMap();
+            counts.putInt("count", count);
+            counts.putInt("skipped", skipped);
+            counts.putDouble("duration", duration / 1e6);
+            counts.putDouble("maxDuration", maxDuration / 1e6);
+            return counts;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.navigation.reactnative;
+
+import android.view.Choreographer;
+import android.view.View;
+import android.view.ViewParent;
+
+import androidx.core.os.TraceCompat;
+import androidx.core.view.ViewCompat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+class LayoutScheduler implements Choreographer.FrameCallback {
+    static final String PROP_CHANGE = "propChange";
+    static final String ATTACH = "attach";
+    static final String SET_CURRENT_ITEM = "setCurrentItem";
+    private static final LayoutScheduler instance = new LayoutScheduler();
+    private ArrayList<View> dirtyViews = new ArrayList<>();
+    private ArrayList<View> passViews = new ArrayList<>();
+    private HashMap<View, String> dirtyTriggers = new HashMap<>();
+    private HashMap<View, String> passTriggers = new HashMap<>();
+    private int[] depths = new int[8];
+    private boolean scheduled = false;
+
+    static void requestLayout(View view) {
+        instance.schedule(view, PROP_CHANGE);
+    }
+
+    static void requestLayout(View view, String trigger) {
+        instance.schedule(view, trigger);
+    }
+
+    private void schedule(View view, String trigger) {
+        if (dirtyTriggers.containsKey(view))
+            return;
+        dirtyTriggers.put(view, trigger);
+        dirtyViews.add(view);
+        if (!scheduled) {
+            scheduled = true;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        scheduled = false;
+        ArrayList<View> views = dirtyViews;
+        HashMap<View, String> triggers = dirtyTriggers;
+        dirtyViews = passViews;
+        dirtyTriggers = passTriggers;
+        passViews = views;
+        passTriggers = triggers;
+        if (depths.length < views.size())
+            depths = new int[views.size()];
+        for (int i = 0; i < views.size(); i++) {
+            View view = views.get(i);
+            int depth = getDepth(view);
+            int j = i - 1;
+            for (; j >= 0 && depths[j] > depth; j--) {
+                views.set(j + 1, views.get(j));
+                depths[j + 1] = depths[j];
+            }
+            views.set(j + 1, view);
+            depths[j + 1] = depth;
+        }
+        TraceCompat.beginSection("LayoutScheduler");
+        boolean sampled = LayoutPasses.sample();
+        int forced = 0;
+        for (int i = 0; i < views.size(); i++) {
+            final View view = views.get(i);
+            final String trigger = triggers.get(view);
+            if (!ViewCompat.isAttachedToWindow(view)) {
+                view.post(() -> schedule(view, trigger));
+                continue;
+            }
+            if (!view.isLayoutRequested()) {
+                if (sampled)
+                    LayoutPasses.recordSkip(view, trigger);
+                continue;
+            }
+            boolean tracing = TraceCompat.isEnabled();
+            if (tracing)
+                TraceCompat.beginSection(view.getClass().getSimpleName() + " " + trigger);
+            long start = sampled ? System.nanoTime() : 0;
+            view.measure(
+                View.MeasureSpec.makeMeasureSpec(view.getWidth(), View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(view.getHeight(), View.MeasureSpec.EXACTLY));
+            view.layout(view.getLeft(), view.getTop(), view.getRight(), view.getBottom());
+            forced++;
+            if (sampled)
+                LayoutPasses.recordLayout(view, trigger, System.nanoTime() - start);
+            if (tracing)
+                TraceCompat.endSection();
+        }
+        if (sampled && forced > 0)
+            LayoutPasses.recordPass();
+        TraceCompat.endSection();
+        views.clear();
+        triggers.clear();
+    }
+
+    private static int getDepth(View view) {
+        int depth = 0;
+        for (ViewParent parent = view.getParent(); parent != null; parent = parent.getParent()) {
+            depth++;
+        }
+        return depth;
+    }
+}
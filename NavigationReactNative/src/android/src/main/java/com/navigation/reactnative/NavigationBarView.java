@@ -13,7 +13,6 @@ import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.modules.i18nmanager.I18nUtil;
 import com.facebook.react.uimanager.PixelUtil;
 import com.facebook.react.uimanager.UIManagerHelper;
-import com.facebook.react.uimanager.events.Event;
 import com.facebook.react.uimanager.events.EventDispatcher;
 import com.facebook.react.uimanager.events.RCTEventEmitter;
 import com.google.android.material.appbar.AppBarLayout;
@@ -35,7 +34,7 @@ public class NavigationBarView extends AppBarLayout {
         });
     }
 
-    static class OffsetChangedEvent extends Event<OffsetChangedEvent> {
+    static class OffsetChangedEvent extends PooledEvent<OffsetChangedEvent> {
         private int offset;
         private static final Pools.SynchronizedPool<OffsetChangedEvent> pool = new Pools.SynchronizedPool<>(3);
 
@@ -43,19 +42,11 @@ public class NavigationBarView extends AppBarLayout {
         }
 
         private static OffsetChangedEvent obtain(int viewTag, int offset) {
-            OffsetChangedEvent event = pool.acquire();
-            if (event == null)
-                event = new OffsetChangedEvent();
-            event.init(viewTag);
+            OffsetChangedEvent event = acquire(pool, OffsetChangedEvent::new, viewTag);
             event.offset = offset;
             return event;
         }
 
-        @Override
-        public void onDispose() {
-            pool.release(this);
-        }
-
         @Override
         public short getCoalescingKey() {
             return 0;
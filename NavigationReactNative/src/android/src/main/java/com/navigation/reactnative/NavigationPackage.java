@@ -44,6 +44,7 @@ public class NavigationPackage implements ReactPackage {
     public List<NativeModule> createNativeModules(ReactApplicationContext reactContext) {
         List<NativeModule> modules = new ArrayList<>();
         modules.add(new Material3(reactContext));
+        modules.add(new NavigationTiming(reactContext));
         return modules;
     }
 }
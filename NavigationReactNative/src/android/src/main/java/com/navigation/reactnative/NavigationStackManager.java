@@ -37,14 +37,24 @@ public class NavigationStackManager extends ViewGroupManager<NavigationStackView
         view.exitAnim = exitAnim;
     }
 
-    @ReactProp(name = "sharedElement")
-    public void setSharedElement(NavigationStackView view, String sharedElement) {
-        view.sharedElementName = sharedElement;
+    @ReactProp(name = "sharedElements")
+    public void setSharedElements(NavigationStackView view, ReadableArray sharedElements) {
+        view.sharedElementNames = sharedElements;
     }
 
-    @ReactProp(name = "oldSharedElement")
-    public void setOldSharedElement(NavigationStackView view, String oldSharedElement) {
-        view.oldSharedElementName = oldSharedElement;
+    @ReactProp(name = "oldSharedElements")
+    public void setOldSharedElements(NavigationStackView view, ReadableArray oldSharedElements) {
+        view.oldSharedElementNames = oldSharedElements;
+    }
+
+    @ReactProp(name = "sharedElementTimeout", defaultInt = 150)
+    public void setSharedElementTimeout(NavigationStackView view, int sharedElementTimeout) {
+        view.sharedElementTimeout = sharedElementTimeout;
+    }
+
+    @ReactProp(name = "hibernationDepth")
+    public void setHibernationDepth(NavigationStackView view, int hibernationDepth) {
+        view.hibernationDepth = hibernationDepth;
     }
 
     @Nonnull
@@ -60,7 +70,9 @@ public class NavigationStackManager extends ViewGroupManager<NavigationStackView
             scene.setElevation(getChildAt(parent, index - 1).getElevation() + 1);
         parent.sceneKeys.add(index, scene.sceneKey);
         parent.scenes.put(scene.sceneKey, scene);
-        if (parent.startNavigation && parent.keys.size() == parent.scenes.size())
+        if (scene.prewarm)
+            scene.prewarm(parent.getWidth(), parent.getHeight());
+        if (parent.startNavigation && parent.hasScenes())
             parent.onAfterUpdateTransaction();
     }
 
@@ -68,6 +80,7 @@ public class NavigationStackManager extends ViewGroupManager<NavigationStackView
     public void removeViewAt(NavigationStackView parent, int index) {
         String sceneKey = parent.sceneKeys.remove(index);
         parent.scenes.remove(sceneKey);
+        parent.sceneFragments.remove(sceneKey);
     }
 
     @Override
@@ -97,6 +110,8 @@ public class NavigationStackManager extends ViewGroupManager<NavigationStackView
         return MapBuilder.<String, Object>builder()
             .put("topOnNavigateToTop", MapBuilder.of("registrationName", "onNavigateToTop"))
             .put("topOnRest", MapBuilder.of("registrationName", "onRest"))
+            .put("topOnTransition", MapBuilder.of("registrationName", "onTransition"))
+            .put("topOnSharedElementTimeout", MapBuilder.of("registrationName", "onSharedElementTimeout"))
             .build();
     }
 }
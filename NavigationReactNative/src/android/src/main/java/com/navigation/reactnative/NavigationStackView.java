@@ -1,11 +1,12 @@
 package com.navigation.reactnative;
 
 import android.app.Activity;
+import android.content.ComponentCallbacks2;
 import android.content.Context;
+import android.content.res.Configuration;
 import android.content.res.TypedArray;
 import android.net.Uri;
 import android.os.Bundle;
-import android.util.Pair;
 import android.util.SparseIntArray;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -14,7 +15,7 @@ import android.widget.ScrollView;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
-import androidx.core.app.SharedElementCallback;
+import androidx.core.util.Pools;
 import androidx.fragment.app.Fragment;
 import androidx.fragment.app.FragmentActivity;
 import androidx.fragment.app.FragmentManager;
@@ -25,22 +26,24 @@ import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.LifecycleEventListener;
 import com.facebook.react.bridge.ReactContext;
 import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.modules.core.DeviceEventManagerModule;
 import com.facebook.react.uimanager.ThemedReactContext;
 import com.facebook.react.uimanager.UIManagerHelper;
-import com.facebook.react.uimanager.events.Event;
 import com.facebook.react.uimanager.events.EventDispatcher;
 import com.facebook.react.uimanager.events.RCTEventEmitter;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.HashSet;
 
-public class NavigationStackView extends ViewGroup implements LifecycleEventListener {
+public class NavigationStackView extends ViewGroup implements LifecycleEventListener, ComponentCallbacks2 {
     protected final ArrayList<String> sceneKeys = new ArrayList<>();
     protected final HashMap<String, SceneView> scenes = new HashMap<>();
+    final HashMap<String, SceneFragment> sceneFragments = new HashMap<>();
+    final HashSet<SceneView> promotedScenes = new HashSet<>();
+    private final ArrayList<String> oldKeys = new ArrayList<>();
     Fragment fragment = null;
     protected ReadableArray keys;
     private int oldCrumb = -1;
@@ -49,9 +52,25 @@ public class NavigationStackView extends ViewGroup implements LifecycleEventList
     private Activity mainActivity;
     protected String enterAnim;
     protected String exitAnim;
-    protected String sharedElementName;
-    protected String oldSharedElementName;
+    protected ReadableArray sharedElementNames;
+    protected ReadableArray oldSharedElementNames;
+    protected int sharedElementTimeout = 150;
     protected Boolean startNavigation = null;
+    protected int hibernationDepth = 0;
+    private SharedElementTransitionPool sharedElementTransitionPool;
+    private TransitionTiming pendingCommitTiming;
+    private Fragment pendingCommitFragment;
+    private final FragmentManager.FragmentLifecycleCallbacks commitCallbacks = new FragmentManager.FragmentLifecycleCallbacks() {
+        @Override
+        public void onFragmentPreAttached(@NonNull FragmentManager fm, @NonNull Fragment f, @NonNull Context context) {
+            markCommit(f);
+        }
+
+        @Override
+        public void onFragmentPaused(@NonNull FragmentManager fm, @NonNull Fragment f) {
+            markCommit(f);
+        }
+    };
 
     public NavigationStackView(Context context) {
         super(context);
@@ -71,6 +90,7 @@ public class NavigationStackView extends ViewGroup implements LifecycleEventList
     }
 
     protected void onAfterUpdateTransaction() {
+        long updateTime = TransitionTiming.now();
         Activity currentActivity = ((ThemedReactContext) getContext()).getCurrentActivity();
         if (currentActivity == null)
             return;
@@ -90,20 +110,27 @@ public class NavigationStackView extends ViewGroup implements LifecycleEventList
             FragmentTransaction transaction = fragmentManager.beginTransaction();
             transaction.add(fragment, "Stack" + getId());
             transaction.commitNowAllowingStateLoss();
+            fragment.getChildFragmentManager().registerFragmentLifecycleCallbacks(commitCallbacks, false);
         }
         startNavigation = startNavigation == null && keys.size() != 0;
         if (scenes.size() == 0 || fragment.getChildFragmentManager().isStateSaved())
             return;
         int crumb = keys.size() - 1;
         int currentCrumb = oldCrumb;
+        if (currentCrumb != -1)
+            reconcileScenes(crumb, currentCrumb);
         if (crumb < currentCrumb) {
             FragmentManager fragmentManager = fragment.getChildFragmentManager();
-            SceneFragment fragment = (SceneFragment) fragmentManager.findFragmentByTag(oldKey);
-            Pair<SharedElementView, String> sharedElement = fragment != null ? getOldSharedElement(currentCrumb, crumb, fragment) : null;
-            SceneFragment prevFragment = (SceneFragment) fragmentManager.findFragmentByTag(keys.getString(crumb));
-            if (sharedElement != null && prevFragment != null && prevFragment.getScene() != null)
-                prevFragment.getScene().sharedElementMotion = new SharedElementMotion(fragment, prevFragment, oldSharedElementName);
+            SceneFragment fragment = sceneFragments.get(oldKey);
+            ArrayList<String> sharedElements = fragment != null ? getOldSharedElements(currentCrumb, crumb, fragment) : null;
+            SceneFragment prevFragment = sceneFragments.get(keys.getString(crumb));
+            if (sharedElements != null && prevFragment != null && prevFragment.getScene() != null)
+                prevFragment.getScene().sharedElementMotion = new SharedElementMotion(this, fragment, prevFragment, sharedElements, sharedElementTimeout);
+            if (prevFragment != null && prevFragment.getScene() != null)
+                prevFragment.getScene().wake();
+            TransitionTiming transitionTiming = startTransitionTiming(crumb, updateTime);
             fragmentManager.popBackStack(String.valueOf(crumb), 0);
+            setPendingCommit(transitionTiming, fragment);
         }
         if (crumb > currentCrumb) {
             final FragmentManager fragmentManager = fragment.getChildFragmentManager();
@@ -111,8 +138,9 @@ public class NavigationStackView extends ViewGroup implements LifecycleEventList
             int exit = getAnimationResourceId(currentActivity, exitAnim, android.R.attr.activityOpenExitAnimation);
             if (exit == 0 && exitAnim != null)
                 exit = getAnimationResourceId(currentActivity, null, android.R.attr.activityOpenExitAnimation);
-            for(int i = 0; i < crumb - currentCrumb; i++) {
-                int nextCrumb = currentCrumb + i + 1;
+            for(int nextCrumb = currentCrumb + 1; nextCrumb <= crumb; nextCrumb++) {
+                boolean first = nextCrumb == currentCrumb + 1;
+                boolean last = nextCrumb == crumb;
                 String key = keys.getString(nextCrumb);
                 SceneView scene = scenes.get(key);
                 assert scene != null : "Scene is null";
@@ -120,21 +148,28 @@ public class NavigationStackView extends ViewGroup implements LifecycleEventList
                 int popExit = getAnimationResourceId(currentActivity, scene.exitAnim, android.R.attr.activityCloseExitAnimation);
                 FragmentTransaction fragmentTransaction = fragmentManager.beginTransaction();
                 fragmentTransaction.setReorderingAllowed(true);
-                Pair<SharedElementView, String> sharedElement = null;
-                if (nextCrumb > 0) {
+                ArrayList<String> sharedElements = null;
+                if (first && last && nextCrumb > 0) {
                     String prevKey = keys.getString(nextCrumb - 1);
-                    SceneFragment prevFragment = (SceneFragment) fragmentManager.findFragmentByTag(prevKey);
+                    SceneFragment prevFragment = sceneFragments.get(prevKey);
                     if (prevFragment != null)
-                        sharedElement = getSharedElement(currentCrumb, crumb, prevFragment);
-                }
-                if (sharedElement != null) {
-                    fragmentTransaction.addSharedElement(sharedElement.first, sharedElement.second);
+                        sharedElements = getSharedElements(currentCrumb, crumb, prevFragment);
+                    for(int i = 0; sharedElements != null && i < sharedElements.size(); i++) {
+                        String sharedElement = sharedElements.get(i);
+                        fragmentTransaction.addSharedElement(prevFragment.getScene().sharedElements.get(sharedElement), sharedElement);
+                    }
                 }
-                fragmentTransaction.setCustomAnimations(oldCrumb != -1 ? enter : 0, exit, popEnter, popExit);
-                SceneFragment fragment = new SceneFragment(scene, sharedElementName);
+                fragmentTransaction.setCustomAnimations(last && oldCrumb != -1 ? enter : 0, first ? exit : 0, popEnter, popExit);
+                SceneFragment fragment = new SceneFragment(scene);
+                if (sharedElements != null)
+                    scene.sharedElementMotion = new SharedElementMotion(this, fragment, fragment, sharedElements, sharedElementTimeout);
+                sceneFragments.put(key, fragment);
                 fragmentTransaction.replace(getId(), fragment, key);
                 fragmentTransaction.addToBackStack(String.valueOf(nextCrumb));
+                TransitionTiming transitionTiming = last ? startTransitionTiming(nextCrumb, updateTime) : null;
                 fragmentTransaction.commit();
+                if (transitionTiming != null)
+                    setPendingCommit(transitionTiming, fragment);
             }
         }
         if (crumb == currentCrumb && !oldKey.equals(keys.getString(crumb))) {
@@ -148,12 +183,106 @@ public class NavigationStackView extends ViewGroup implements LifecycleEventList
             FragmentManager fragmentManager = fragment.getChildFragmentManager();
             FragmentTransaction fragmentTransaction = fragmentManager.beginTransaction();
             fragmentTransaction.setCustomAnimations(enter, exit, popEnter, popExit);
-            fragmentTransaction.replace(getId(), new SceneFragment(scene, null), key);
+            SceneFragment fragment = new SceneFragment(scene);
+            sceneFragments.put(key, fragment);
+            fragmentTransaction.replace(getId(), fragment, key);
             fragmentTransaction.addToBackStack(String.valueOf(crumb));
+            TransitionTiming transitionTiming = startTransitionTiming(crumb, updateTime);
             fragmentTransaction.commit();
+            setPendingCommit(transitionTiming, fragment);
         }
         oldCrumb = keys.size() - 1;
         oldKey = keys.getString(oldCrumb);
+        oldKeys.clear();
+        for(int i = 0; i < keys.size(); i++) {
+            oldKeys.add(keys.getString(i));
+        }
+        hibernateScenes(hibernationDepth);
+    }
+
+    private TransitionTiming startTransitionTiming(int crumb, long updateTime) {
+        SceneView scene = scenes.get(keys.getString(crumb));
+        if (scene == null)
+            return null;
+        scene.transitionTiming = new TransitionTiming(scene.stateKey, crumb, updateTime);
+        return scene.transitionTiming;
+    }
+
+    private void setPendingCommit(TransitionTiming transitionTiming, Fragment fragment) {
+        pendingCommitTiming = transitionTiming;
+        pendingCommitFragment = transitionTiming != null ? fragment : null;
+    }
+
+    private void markCommit(Fragment fragment) {
+        if (pendingCommitTiming == null || fragment != pendingCommitFragment)
+            return;
+        pendingCommitTiming.mark(TransitionTiming.COMMIT);
+        pendingCommitTiming = null;
+        pendingCommitFragment = null;
+    }
+
+    private void hibernateScenes(int depth) {
+        if (keys == null || keys.size() == 0)
+            return;
+        int crumb = keys.size() - 1;
+        int hibernateCrumb = depth > 0 ? crumb - depth : -1;
+        for(int i = 0; i <= crumb; i++) {
+            SceneView scene = scenes.get(keys.getString(i));
+            if (scene == null)
+                continue;
+            if (i <= hibernateCrumb)
+                scene.hibernate();
+            else if (i == crumb || hibernateCrumb != -1)
+                scene.wake();
+        }
+    }
+
+    private void reconcileScenes(int crumb, int currentCrumb) {
+        int prefix = 0;
+        while (prefix <= Math.min(crumb, currentCrumb) && oldKeys.get(prefix).equals(keys.getString(prefix)))
+            prefix++;
+        if (prefix > Math.min(crumb, currentCrumb))
+            return;
+        HashSet<String> keySet = new HashSet<>();
+        for(int i = 0; i < keys.size(); i++) {
+            keySet.add(keys.getString(i));
+        }
+        boolean replaceTop = crumb == currentCrumb && !oldKeys.get(currentCrumb).equals(keys.getString(crumb));
+        int rebindCrumb = !replaceTop ? Math.min(crumb, currentCrumb) : currentCrumb - 1;
+        ArrayList<SceneFragment> oldSceneFragments = new ArrayList<>();
+        for(int i = prefix; i <= currentCrumb; i++) {
+            oldSceneFragments.add(sceneFragments.remove(oldKeys.get(i)));
+        }
+        for(int i = prefix; i <= currentCrumb; i++) {
+            SceneFragment sceneFragment = oldSceneFragments.get(i - prefix);
+            if (sceneFragment == null)
+                continue;
+            String oldKey = oldKeys.get(i);
+            if (i <= rebindCrumb) {
+                String key = keys.getString(i);
+                if (!key.equals(oldKey))
+                    sceneFragment.setScene(scenes.get(key), !keySet.contains(oldKey));
+                sceneFragments.put(key, sceneFragment);
+            } else if (keySet.contains(oldKey)) {
+                sceneFragment.retainScene();
+            } else {
+                sceneFragments.put(oldKey, sceneFragment);
+            }
+        }
+    }
+
+    SharedElementTransitionPool getSharedElementTransitionPool() {
+        if (sharedElementTransitionPool == null)
+            sharedElementTransitionPool = new SharedElementTransitionPool(getContext());
+        return sharedElementTransitionPool;
+    }
+
+    boolean hasScenes() {
+        for(int i = 0; keys != null && i < keys.size(); i++) {
+            if (!scenes.containsKey(keys.getString(i)))
+                return false;
+        }
+        return keys != null;
     }
 
     int getAnimationResourceId(Context context, String animationName, int defaultId) {
@@ -165,55 +294,37 @@ public class NavigationStackView extends ViewGroup implements LifecycleEventList
         return context.getResources().getIdentifier(animationName, "anim", packageName);
     }
 
-    HashMap<String, SharedElementView> getSharedElementMap(SceneView scene) {
-        HashMap<String, SharedElementView> sharedElementMap = new HashMap<>();
-        for(SharedElementView sharedElement : scene.sharedElements) {
-            sharedElementMap.put(sharedElement.getTransitionName(), sharedElement);
-        }
-        return sharedElementMap;
-    }
-
-    Pair<SharedElementView, String> getSharedElement(HashMap<String, SharedElementView> sharedElementMap, String sharedElementName) {
-        if (sharedElementMap == null || sharedElementName == null)
+    private ArrayList<String> findSharedElements(SceneView scene, ReadableArray names) {
+        if (scene == null || names == null)
             return null;
-        if (sharedElementMap.containsKey(sharedElementName))
-            return Pair.create(sharedElementMap.get(sharedElementName), sharedElementName);
-        return null;
+        ArrayList<String> sharedElements = null;
+        for(int i = 0; i < names.size(); i++) {
+            String name = names.getString(i);
+            if (scene.sharedElements.containsKey(name)) {
+                if (sharedElements == null)
+                    sharedElements = new ArrayList<>();
+                sharedElements.add(name);
+            }
+        }
+        return sharedElements;
     }
 
-    private Pair<SharedElementView, String> getOldSharedElement(int currentCrumb, int crumb, SceneFragment sceneFragment) {
-        final HashMap<String, SharedElementView> oldSharedElementsMap = getSharedElementMap(sceneFragment.getScene());
-        final Pair<SharedElementView, String> oldSharedElement = currentCrumb - crumb == 1 ? getSharedElement(oldSharedElementsMap, oldSharedElementName) : null;
-        if (oldSharedElement != null) {
-            sceneFragment.setEnterSharedElementCallback(new SharedElementCallback() {
-                @Override
-                public void onMapSharedElements(List<String> names, Map<String, View> elements) {
-                    if (oldSharedElementsMap.containsKey(oldSharedElementName)) {
-                        View oldSharedElement = oldSharedElementsMap.get(oldSharedElementName);
-                        elements.put(names.get(0), oldSharedElement);
-                    }
-                }
-            });
-            return oldSharedElement;
+    private ArrayList<String> getOldSharedElements(int currentCrumb, int crumb, SceneFragment sceneFragment) {
+        ArrayList<String> oldSharedElements = currentCrumb - crumb == 1 ? findSharedElements(sceneFragment.getScene(), oldSharedElementNames) : null;
+        if (oldSharedElements != null) {
+            sceneFragment.mappedSharedElements = oldSharedElements;
+            sceneFragment.setEnterSharedElementCallback(sceneFragment.sharedElementCallback);
         }
-        return null;
+        return oldSharedElements;
     }
 
-    private Pair<SharedElementView, String> getSharedElement(int currentCrumb, int crumb, SceneFragment sceneFragment) {
-        final HashMap<String, SharedElementView> sharedElementsMap = getSharedElementMap(sceneFragment.getScene());
-        final Pair<SharedElementView, String> sharedElement = crumb - currentCrumb == 1 ? getSharedElement(sharedElementsMap, sharedElementName) : null;
-        if (sharedElement != null) {
-            sceneFragment.setExitSharedElementCallback(new SharedElementCallback() {
-                @Override
-                public void onMapSharedElements(List<String> names, Map<String, View> elements) {
-                    String mappedName = oldSharedElementName != null ? oldSharedElementName : names.get(0);
-                    if (sharedElementsMap.containsKey(mappedName))
-                        elements.put(names.get(0), sharedElementsMap.get(mappedName));
-                }
-            });
-            return sharedElement;
+    private ArrayList<String> getSharedElements(int currentCrumb, int crumb, SceneFragment sceneFragment) {
+        ArrayList<String> sharedElements = crumb - currentCrumb == 1 ? findSharedElements(sceneFragment.getScene(), sharedElementNames) : null;
+        if (sharedElements != null) {
+            sceneFragment.mappedSharedElements = null;
+            sceneFragment.setExitSharedElementCallback(sceneFragment.sharedElementCallback);
         }
-        return null;
+        return sharedElements;
     }
 
     @Override
@@ -221,19 +332,21 @@ public class NavigationStackView extends ViewGroup implements LifecycleEventList
         super.onAttachedToWindow();
         onAfterUpdateTransaction();
         ((ThemedReactContext) getContext()).addLifecycleEventListener(this);
+        getContext().getApplicationContext().registerComponentCallbacks(this);
     }
 
     @Override
     protected void onDetachedFromWindow() {
         super.onDetachedFromWindow();
         ((ThemedReactContext) getContext()).removeLifecycleEventListener(this);
+        getContext().getApplicationContext().unregisterComponentCallbacks(this);
     }
 
     void scrollToTop() {
         if (keys.size() > 1) {
             ReactContext reactContext = (ReactContext) getContext();
             EventDispatcher eventDispatcher = UIManagerHelper.getEventDispatcherForReactTag(reactContext, getId());
-            eventDispatcher.dispatchEvent(new NavigationStackView.NavigateToTopEvent(getId()));
+            eventDispatcher.dispatchEvent(NavigationStackView.NavigateToTopEvent.obtain(getId()));
         }
         if (keys.size() == 1) {
             SceneView scene = scenes.get(keys.getString(0));
@@ -245,10 +358,8 @@ public class NavigationStackView extends ViewGroup implements LifecycleEventList
                     ((NavigationBarView) scene.getChildAt(i)).setExpanded(true);
                 if (scene.getChildAt(i) instanceof ScrollView)
                     ((ScrollView) scene.getChildAt(i)).smoothScrollTo(0, 0);
-                if (scene.getChildAt(i) instanceof TabBarPagerView)
-                    ((TabBarPagerView) scene.getChildAt(i)).scrollToTop();
                 if (scene.getChildAt(i) instanceof ViewPager2)
-                    TabBarPagerRTLManager.getAdapter((ViewPager2) scene.getChildAt(i)).scrollToTop();
+                    TabBarPager.getAdapter((ViewPager2) scene.getChildAt(i)).scrollToTop();
             }
         }
     }
@@ -265,7 +376,24 @@ public class NavigationStackView extends ViewGroup implements LifecycleEventList
     void onRest(int crumb) {
         ReactContext reactContext = (ReactContext) getContext();
         EventDispatcher eventDispatcher = UIManagerHelper.getEventDispatcherForReactTag(reactContext, getId());
-        eventDispatcher.dispatchEvent(new NavigationStackView.RestEvent(getId(), crumb));
+        eventDispatcher.dispatchEvent(NavigationStackView.RestEvent.obtain(getId(), crumb));
+        while (!promotedScenes.isEmpty()) {
+            promotedScenes.iterator().next().demoteLayer();
+        }
+        SceneView scene = crumb < keys.size() ? scenes.get(keys.getString(crumb)) : null;
+        if (scene != null && scene.transitionTiming != null && scene.transitionTiming.crumb == crumb) {
+            TransitionTiming transitionTiming = scene.transitionTiming;
+            scene.transitionTiming = null;
+            transitionTiming.mark(TransitionTiming.REST);
+            TransitionTimings.record(transitionTiming);
+            eventDispatcher.dispatchEvent(NavigationStackView.TransitionEvent.obtain(getId(), transitionTiming));
+        }
+    }
+
+    void onSharedElementTimeout(int crumb, ArrayList<String> sharedElements) {
+        ReactContext reactContext = (ReactContext) getContext();
+        EventDispatcher eventDispatcher = UIManagerHelper.getEventDispatcherForReactTag(reactContext, getId());
+        eventDispatcher.dispatchEvent(NavigationStackView.SharedElementTimeoutEvent.obtain(getId(), crumb, sharedElements));
     }
 
     @Override
@@ -285,6 +413,21 @@ public class NavigationStackView extends ViewGroup implements LifecycleEventList
     public void onHostDestroy() {
     }
 
+    @Override
+    public void onTrimMemory(int level) {
+        if (level == TRIM_MEMORY_RUNNING_LOW || level == TRIM_MEMORY_RUNNING_CRITICAL)
+            hibernateScenes(1);
+    }
+
+    @Override
+    public void onLowMemory() {
+        hibernateScenes(1);
+    }
+
+    @Override
+    public void onConfigurationChanged(@NonNull Configuration newConfig) {
+    }
+
     public static class StackFragment extends Fragment {
         private NavigationStackView stack;
 
@@ -304,9 +447,14 @@ public class NavigationStackView extends ViewGroup implements LifecycleEventList
         }
     }
 
-    static class NavigateToTopEvent extends Event<NavigationStackView.NavigateToTopEvent> {
-        public NavigateToTopEvent(int viewId) {
-            super(viewId);
+    static class NavigateToTopEvent extends PooledEvent<NavigationStackView.NavigateToTopEvent> {
+        private static final Pools.SynchronizedPool<NavigateToTopEvent> pool = new Pools.SynchronizedPool<>(3);
+
+        private NavigateToTopEvent() {
+        }
+
+        static NavigateToTopEvent obtain(int viewId) {
+            return acquire(pool, NavigateToTopEvent::new, viewId);
         }
 
         @Override
@@ -320,12 +468,17 @@ public class NavigationStackView extends ViewGroup implements LifecycleEventList
         }
     }
 
-    static class RestEvent extends Event<NavigationStackView.RestEvent> {
-        private final int crumb;
+    static class RestEvent extends PooledEvent<NavigationStackView.RestEvent> {
+        private int crumb;
+        private static final Pools.SynchronizedPool<RestEvent> pool = new Pools.SynchronizedPool<>(3);
+
+        private RestEvent() {
+        }
 
-        public RestEvent(int viewId, int crumb) {
-            super(viewId);
-            this.crumb = crumb;
+        static RestEvent obtain(int viewId, int crumb) {
+            RestEvent event = acquire(pool, RestEvent::new, viewId);
+            event.crumb = crumb;
+            return event;
         }
 
         @Override
@@ -340,4 +493,73 @@ public class NavigationStackView extends ViewGroup implements LifecycleEventList
             rctEventEmitter.receiveEvent(getViewTag(), getEventName(), event);
         }
     }
+
+    static class SharedElementTimeoutEvent extends PooledEvent<NavigationStackView.SharedElementTimeoutEvent> {
+        private int crumb;
+        private ArrayList<String> sharedElements;
+        private static final Pools.SynchronizedPool<SharedElementTimeoutEvent> pool = new Pools.SynchronizedPool<>(3);
+
+        private SharedElementTimeoutEvent() {
+        }
+
+        static SharedElementTimeoutEvent obtain(int viewId, int crumb, ArrayList<String> sharedElements) {
+            SharedElementTimeoutEvent event = acquire(pool, SharedElementTimeoutEvent::new, viewId);
+            event.crumb = crumb;
+            event.sharedElements = sharedElements;
+            return event;
+        }
+
+        @Override
+        public void onDispose() {
+            sharedElements = null;
+            super.onDispose();
+        }
+
+        @Override
+        public String getEventName() {
+            return "topOnSharedElementTimeout";
+        }
+
+        @Override
+        public void dispatch(RCTEventEmitter rctEventEmitter) {
+            WritableMap event = Arguments.createMap();
+            event.putInt("crumb", this.crumb);
+            WritableArray sharedElements = Arguments.createArray();
+            for(String sharedElement : this.sharedElements) {
+                sharedElements.pushString(sharedElement);
+            }
+            event.putArray("sharedElements", sharedElements);
+            rctEventEmitter.receiveEvent(getViewTag(), getEventName(), event);
+        }
+    }
+
+    static class TransitionEvent extends PooledEvent<NavigationStackView.TransitionEvent> {
+        private TransitionTiming transitionTiming;
+        private static final Pools.SynchronizedPool<TransitionEvent> pool = new Pools.SynchronizedPool<>(3);
+
+        private TransitionEvent() {
+        }
+
+        static TransitionEvent obtain(int viewId, TransitionTiming transitionTiming) {
+            TransitionEvent event = acquire(pool, TransitionEvent::new, viewId);
+            event.transitionTiming = transitionTiming;
+            return event;
+        }
+
+        @Override
+        public void onDispose() {
+            transitionTiming = null;
+            super.onDispose();
+        }
+
+        @Override
+        public String getEventName() {
+            return "topOnTransition";
+        }
+
+        @Override
+        public void dispatch(RCTEventEmitter rctEventEmitter) {
+            rctEventEmitter.receiveEvent(getViewTag(), getEventName(), transitionTiming.toMap());
+        }
+    }
 }
@@ -55,14 +55,24 @@ public class NavigationStackViewManager extends ViewGroupManager<NavigationStack
         view.exitAnim = exitAnim;
     }
 
-    @ReactProp(name = "sharedElement")
-    public void setSharedElement(NavigationStackView view, String sharedElement) {
-        view.sharedElementName = sharedElement;
+    @ReactProp(name = "sharedElements")
+    public void setSharedElements(NavigationStackView view, ReadableArray sharedElements) {
+        view.sharedElementNames = sharedElements;
     }
 
-    @ReactProp(name = "oldSharedElement")
-    public void setOldSharedElement(NavigationStackView view, String oldSharedElement) {
-        view.oldSharedElementName = oldSharedElement;
+    @ReactProp(name = "oldSharedElements")
+    public void setOldSharedElements(NavigationStackView view, ReadableArray oldSharedElements) {
+        view.oldSharedElementNames = oldSharedElements;
+    }
+
+    @ReactProp(name = "sharedElementTimeout", defaultInt = 150)
+    public void setSharedElementTimeout(NavigationStackView view, int sharedElementTimeout) {
+        view.sharedElementTimeout = sharedElementTimeout;
+    }
+
+    @ReactProp(name = "hibernationDepth")
+    public void setHibernationDepth(NavigationStackView view, int hibernationDepth) {
+        view.hibernationDepth = hibernationDepth;
     }
 
     @ReactProp(name = "mostRecentEventCount")
@@ -86,7 +96,9 @@ public class NavigationStackViewManager extends ViewGroupManager<NavigationStack
             scene.setElevation(getChildAt(parent, index - 1).getElevation() + 1);
         parent.sceneKeys.add(index, scene.sceneKey);
         parent.scenes.put(scene.sceneKey, scene);
-        if (parent.startNavigation && parent.keys.size() == parent.scenes.size())
+        if (scene.prewarm)
+            scene.prewarm(parent.getWidth(), parent.getHeight());
+        if (parent.startNavigation && parent.hasScenes())
             parent.onAfterUpdateTransaction();
     }
 
@@ -94,6 +106,7 @@ public class NavigationStackViewManager extends ViewGroupManager<NavigationStack
     public void removeViewAt(NavigationStackView parent, int index) {
         String sceneKey = parent.sceneKeys.remove(index);
         parent.scenes.remove(sceneKey);
+        parent.sceneFragments.remove(sceneKey);
     }
 
     @Override
@@ -123,6 +136,8 @@ public class NavigationStackViewManager extends ViewGroupManager<NavigationStack
         return MapBuilder.<String, Object>builder()
             .put("topOnNavigateToTop", MapBuilder.of("registrationName", "onNavigateToTop"))
             .put("topOnRest", MapBuilder.of("registrationName", "onRest"))
+            .put("topOnTransition", MapBuilder.of("registrationName", "onTransition"))
+            .put("topOnSharedElementTimeout", MapBuilder.of("registrationName", "onSharedElementTimeout"))
             .build();
     }
 }
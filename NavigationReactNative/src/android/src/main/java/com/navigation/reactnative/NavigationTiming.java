@@ -0,0 +1,55 @@
+package com.navigation.reactnative;
+
+import androidx.annotation.NonNull;
+
+import com.facebook.react.bridge.Promise;
+import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.bridge.ReactContextBaseJavaModule;
+import com.facebook.react.bridge.ReactMethod;
+
+public class NavigationTiming extends ReactContextBaseJavaModule {
+    NavigationTiming(ReactApplicationContext context) {
+        super(context);
+    }
+
+    @NonNull
+    @Override
+    public String getName() {
+        return "NavigationTiming";
+    }
+
+    @ReactMethod
+    public void getTimings(Promise promise) {
+        promise.resolve(TransitionTimings.getHistograms());
+    }
+
+    @ReactMethod
+    public void resetTimings() {
+        TransitionTimings.reset();
+    }
+
+    @ReactMethod
+    public void getLayoutPasses(Promise promise) {
+        promise.resolve(LayoutPasses.getPasses());
+    }
+
+    @ReactMethod
+    public void resetLayoutPasses() {
+        LayoutPasses.reset();
+    }
+
+    @ReactMethod
+    public void setLayoutPassSampling(double sampleRate) {
+        LayoutPasses.setSampleRate(sampleRate);
+    }
+
+    @ReactMethod
+    public void getEventPool(Promise promise) {
+        promise.resolve(PooledEvent.getPoolStats());
+    }
+
+    @ReactMethod
+    public void resetEventPool() {
+        PooledEvent.resetPoolStats();
+    }
+}
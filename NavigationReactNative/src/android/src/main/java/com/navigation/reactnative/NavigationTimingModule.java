@@ -0,0 +1,53 @@
+package com.navigation.reactnative;
+
+import androidx.annotation.NonNull;
+
+import com.facebook.react.bridge.Promise;
+import com.facebook.react.bridge.ReactApplicationContext;
+
+public class NavigationTimingModule extends NativeNavigationTimingModuleSpec {
+    NavigationTimingModule(ReactApplicationContext context) {
+        super(context);
+    }
+
+    @NonNull
+    @Override
+    public String getName() {
+        return "NavigationTiming";
+    }
+
+    @Override
+    public void getTimings(Promise promise) {
+        promise.resolve(TransitionTimings.getHistograms());
+    }
+
+    @Override
+    public void resetTimings() {
+        TransitionTimings.reset();
+    }
+
+    @Override
+    public void getLayoutPasses(Promise promise) {
+        promise.resolve(LayoutPasses.getPasses());
+    }
+
+    @Override
+    public void resetLayoutPasses() {
+        LayoutPasses.reset();
+    }
+
+    @Override
+    public void setLayoutPassSampling(double sampleRate) {
+        LayoutPasses.setSampleRate(sampleRate);
+    }
+
+    @Override
+    public void getEventPool(Promise promise) {
+        promise.resolve(PooledEvent.getPoolStats());
+    }
+
+    @Override
+    public void resetEventPool() {
+        PooledEvent.resetPoolStats();
+    }
+}
@@ -0,0 +1,53 @@
+package com.navigation.reactnative;
+
+import androidx.core.util.Pools;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+import com.facebook.react.uimanager.events.Event;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+abstract class PooledEvent<T extends PooledEvent<T>> extends Event<T> {
+    private static final AtomicInteger obtained = new AtomicInteger();
+    private static final AtomicInteger reused = new AtomicInteger();
+    private Pools.SynchronizedPool<T> pool;
+
+    interface Factory<T> {
+        T create();
+    }
+
+    static <T extends PooledEvent<T>> T acquire(Pools.SynchronizedPool<T> pool, Factory<T> factory, int viewTag) {
+        obtained.incrementAndGet();
+        T event = pool.acquire();
+        if (event != null) {
+            reused.incrementAndGet();
+        } else {
+            event = factory.create();
+            event.pool = pool;
+        }
+        event.init(viewTag);
+        return event;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void onDispose() {
+        pool.release((T) this);
+    }
+
+    static WritableMap getPoolStats() {
+        int obtainedCount = obtained.get();
+        int reusedCount = reused.get();
+        WritableMap stats = Arguments.createMap();
+        stats.putInt("obtained", obtainedCount);
+        stats.putInt("reused", reusedCount);
+        stats.putDouble("hitRate", obtainedCount > 0 ? (double) reusedCount / obtainedCount : 0);
+        return stats;
+    }
+
+    static void resetPoolStats() {
+        obtained.set(0);
+        reused.set(0);
+    }
+}
@@ -0,0 +1,171 @@
+package com.navigation.reactnative;
+
+import android.animation.Animator;
+import android.animation.AnimatorInflater;
+import android.animation.AnimatorListenerAdapter;
+import android.animation.ValueAnimator;
+import android.content.Context;
+import android.graphics.Matrix;
+import android.os.Build;
+import android.view.animation.Animation;
+import android.view.animation.AnimationUtils;
+import android.view.animation.LinearInterpolator;
+import android.view.animation.Transformation;
+
+class SceneAnimator extends AnimatorListenerAdapter implements ValueAnimator.AnimatorUpdateListener {
+    private static final int ALPHA = 0, TRANSLATION_X = 1, TRANSLATION_Y = 2, SCALE_X = 3, SCALE_Y = 4, ROTATION = 5;
+    private final SceneView view;
+    private final Animation animation;
+    private final boolean interruptible;
+    private final Runnable onRest;
+    private final Transformation transformation = new Transformation();
+    private final float[] matrixValues = new float[9];
+    private final float[] values = new float[] {1, 0, 0, 1, 1, 0};
+    private float[] blendValues;
+    private long duration = 0;
+    private boolean running = false;
+    private boolean cancelled = false;
+    private boolean clipped = false;
+    private boolean cutShort = false;
+
+    private SceneAnimator(SceneView view, Animation animation, boolean interruptible, Runnable onRest) {
+        this.view = view;
+        this.animation = animation;
+        this.interruptible = interruptible;
+        this.onRest = onRest;
+    }
+
+    static Animator create(Context context, int animResId, SceneView view, int width, int height, SceneAnimator interrupted, Runnable onRest) {
+        if ("animator".equals(context.getResources().getResourceTypeName(animResId))) {
+            Animator animator = AnimatorInflater.loadAnimator(context, animResId);
+            animator.setTarget(view);
+            animator.addListener(new SceneAnimator(view, null, false, onRest));
+            return animator;
+        }
+        Animation animation = AnimationUtils.loadAnimation(context, animResId);
+        animation.initialize(width, height, width, height);
+        animation.setStartTime(0);
+        long duration = animation.computeDurationHint();
+        SceneAnimator sceneAnimator = new SceneAnimator(view, animation, true, onRest);
+        sceneAnimator.duration = duration;
+        if (interrupted != null && interrupted.cutShort) {
+            float[] startValues = sceneAnimator.transform(0);
+            sceneAnimator.blendValues = new float[] {
+                view.getAlpha() - startValues[ALPHA], view.getTranslationX() - startValues[TRANSLATION_X],
+                view.getTranslationY() - startValues[TRANSLATION_Y], view.getScaleX() - startValues[SCALE_X],
+                view.getScaleY() - startValues[SCALE_Y], view.getRotation() - startValues[ROTATION]
+            };
+        }
+        ValueAnimator animator = ValueAnimator.ofFloat(0, 1);
+        animator.setDuration(duration);
+        animator.setInterpolator(new LinearInterpolator());
+        animator.addListener(sceneAnimator);
+        animator.addUpdateListener(sceneAnimator);
+        return animator;
+    }
+
+    static SceneAnimator get(Animator animator) {
+        for(Animator.AnimatorListener listener : animator.getListeners()) {
+            if (listener instanceof SceneAnimator)
+                return (SceneAnimator) listener;
+        }
+        return null;
+    }
+
+    boolean isCutShort() {
+        return cutShort;
+    }
+
+    private float[] transform(long playTime) {
+        transformation.clear();
+        animation.getTransformation(playTime, transformation);
+        transformation.getMatrix().getValues(matrixValues);
+        float a = matrixValues[Matrix.MSCALE_X], b = matrixValues[Matrix.MSKEW_X];
+        float c = matrixValues[Matrix.MSKEW_Y], d = matrixValues[Matrix.MSCALE_Y];
+        float scaleX = (float) Math.hypot(a, c);
+        values[ALPHA] = transformation.getAlpha();
+        values[TRANSLATION_X] = matrixValues[Matrix.MTRANS_X];
+        values[TRANSLATION_Y] = matrixValues[Matrix.MTRANS_Y];
+        values[SCALE_X] = scaleX;
+        values[SCALE_Y] = scaleX != 0 ? (a * d - b * c) / scaleX : d;
+        values[ROTATION] = (float) Math.toDegrees(Math.atan2(c, a));
+        return values;
+    }
+
+    private void apply(float blend) {
+        for(int i = 0; blendValues != null && i < values.length; i++) {
+            values[i] += blend * blendValues[i];
+        }
+        view.setAlpha(values[ALPHA]);
+        view.setTranslationX(values[TRANSLATION_X]);
+        view.setTranslationY(values[TRANSLATION_Y]);
+        view.setScaleX(values[SCALE_X]);
+        view.setScaleY(values[SCALE_Y]);
+        view.setRotation(values[ROTATION]);
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q && transformation.hasClipRect()) {
+            view.setClipBounds(transformation.getClipRect());
+            clipped = true;
+        }
+    }
+
+    void reset() {
+        cutShort = false;
+        view.setAlpha(1);
+        view.setTranslationX(0);
+        view.setTranslationY(0);
+        view.setScaleX(1);
+        view.setScaleY(1);
+        view.setRotation(0);
+        if (clipped) {
+            view.setClipBounds(null);
+            clipped = false;
+        }
+        if (animation == null)
+            return;
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.P) {
+            view.resetPivot();
+        } else {
+            view.setPivotX(view.getWidth() / 2f);
+            view.setPivotY(view.getHeight() / 2f);
+        }
+    }
+
+    @Override
+    public void onAnimationStart(Animator animator) {
+        if (animation != null) {
+            view.setPivotX(0);
+            view.setPivotY(0);
+            transform(0);
+            apply(1);
+        }
+        running = true;
+        cancelled = false;
+        view.promoteLayer();
+    }
+
+    @Override
+    public void onAnimationUpdate(ValueAnimator animator) {
+        transform((long) (animator.getAnimatedFraction() * duration));
+        apply(1 - animator.getAnimatedFraction());
+    }
+
+    @Override
+    public void onAnimationCancel(Animator animator) {
+        cancelled = true;
+    }
+
+    @Override
+    public void onAnimationEnd(Animator animator) {
+        if (!running)
+            return;
+        running = false;
+        view.demoteLayer();
+        if (interruptible && cancelled) {
+            cutShort = true;
+            return;
+        }
+        reset();
+        if (onRest != null)
+            onRest.run();
+    }
+}
@@ -1,29 +1,53 @@
 package com.navigation.reactnative;
 
+import android.animation.Animator;
 import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
-import android.view.animation.Animation;
-import android.view.animation.AnimationUtils;
+import android.view.ViewTreeObserver;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.core.app.SharedElementCallback;
 import androidx.fragment.app.Fragment;
 import androidx.lifecycle.Lifecycle;
+import androidx.transition.TransitionSet;
+
+import com.google.android.material.transition.MaterialContainerTransform;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 public class SceneFragment extends Fragment {
     private SceneView scene;
+    private SceneView pendingScene;
+    private boolean pendingScenePopped = false;
+    private boolean sceneRetained = false;
+    List<String> mappedSharedElements;
+    private ArrayList<MaterialContainerTransform> sharedElementTransitions;
+    private SharedElementTransitionPool sharedElementTransitionPool;
+    private Animator animator;
+    final SharedElementCallback sharedElementCallback = new SharedElementCallback() {
+        @Override
+        public void onMapSharedElements(List<String> names, Map<String, View> elements) {
+            for(int i = 0; i < names.size(); i++) {
+                String name = mappedSharedElements != null && i < mappedSharedElements.size() ? mappedSharedElements.get(i) : names.get(i);
+                SharedElementView sharedElement = scene != null ? scene.sharedElements.get(name) : null;
+                if (sharedElement != null)
+                    elements.put(names.get(i), sharedElement);
+            }
+        }
+    };
 
     public SceneFragment() {
         super();
     }
 
-    SceneFragment(SceneView scene, String sharedElement) {
+    SceneFragment(SceneView scene) {
         super();
         this.scene = scene;
-        if (sharedElement != null )
-            scene.sharedElementMotion = new SharedElementMotion(this, this, sharedElement);
     }
 
     @Nullable
@@ -32,8 +56,26 @@ public class SceneFragment extends Fragment {
         if (scene != null) {
             if (scene.getParent() != null)
                 ((ViewGroup) scene.getParent()).endViewTransition(scene);
+            SceneAnimator interrupted = animator != null && !animator.isRunning() ? SceneAnimator.get(animator) : null;
+            if (interrupted != null && interrupted.isCutShort())
+                interrupted.reset();
             if (scene.sharedElementMotion != null)
-                postponeEnterTransition();
+                scene.sharedElementMotion.postpone();
+            if (scene.transitionTiming != null) {
+                final SceneView enteringScene = scene;
+                final TransitionTiming transitionTiming = scene.transitionTiming;
+                transitionTiming.mark(TransitionTiming.CREATE_VIEW);
+                if (scene.sharedElementMotion != null)
+                    transitionTiming.postpone();
+                scene.getViewTreeObserver().addOnPreDrawListener(new ViewTreeObserver.OnPreDrawListener() {
+                    @Override
+                    public boolean onPreDraw() {
+                        transitionTiming.mark(TransitionTiming.FIRST_DRAW);
+                        enteringScene.getViewTreeObserver().removeOnPreDrawListener(this);
+                        return true;
+                    }
+                });
+            }
             return scene;
         }
         return new View(getContext());
@@ -41,39 +83,83 @@ public class SceneFragment extends Fragment {
 
     @Nullable
     @Override
-    public Animation onCreateAnimation(int transit, boolean enter, int nextAnim) {
-        if (nextAnim != 0 && enter) {
-            Animation anim = AnimationUtils.loadAnimation(getContext(), nextAnim);
-            anim.setAnimationListener(new Animation.AnimationListener() {
-                @Override
-                public void onAnimationStart(Animation animation) {
-                }
-
+    public Animator onCreateAnimator(int transit, boolean enter, int nextAnim) {
+        SceneAnimator interrupted = animator != null ? SceneAnimator.get(animator) : null;
+        animator = null;
+        if (nextAnim != 0 && scene != null) {
+            final SceneView scene = this.scene;
+            Runnable onRest = !enter ? null : new Runnable() {
                 @Override
-                public void onAnimationEnd(Animation animation) {
-                    ((NavigationStackView) scene.getParent()).onRest(scene.crumb);
+                public void run() {
+                    if (scene.getParent() instanceof NavigationStackView)
+                        ((NavigationStackView) scene.getParent()).onRest(scene.crumb);
                 }
-
-                @Override
-                public void onAnimationRepeat(Animation animation) {
-                }
-            });
-            return anim;
+            };
+            animator = SceneAnimator.create(requireContext(), nextAnim, scene, scene.getWidth(), scene.getHeight(), interrupted, onRest);
+            return animator;
         }
+        if (interrupted != null && interrupted.isCutShort())
+            interrupted.reset();
         if (nextAnim == 0 && enter && getLifecycle().getCurrentState().isAtLeast(Lifecycle.State.STARTED)) {
             ((NavigationStackView) scene.getParent()).onRest(scene.crumb);
         }
-        return super.onCreateAnimation(transit, enter, nextAnim);
+        return super.onCreateAnimator(transit, enter, nextAnim);
+    }
+
+    @Override
+    public void onDestroyView() {
+        super.onDestroyView();
+        if (pendingScene != null) {
+            SceneView oldScene = scene;
+            scene = pendingScene;
+            pendingScene = null;
+            if (pendingScenePopped)
+                oldScene.popped();
+        }
     }
 
     @Override
     public void onDestroy() {
         super.onDestroy();
-        if (scene != null)
+        releaseSharedElementTransitions();
+        if (scene != null && !sceneRetained)
             scene.popped();
     }
 
     public SceneView getScene() {
         return scene;
     }
+
+    void setSharedElementTransition(TransitionSet transition, ArrayList<MaterialContainerTransform> transitions, SharedElementTransitionPool pool) {
+        releaseSharedElementTransitions();
+        setSharedElementEnterTransition(transition);
+        setSharedElementReturnTransition(transition);
+        sharedElementTransitions = transitions;
+        sharedElementTransitionPool = pool;
+    }
+
+    private void releaseSharedElementTransitions() {
+        if (sharedElementTransitions == null)
+            return;
+        for(MaterialContainerTransform transition : sharedElementTransitions) {
+            sharedElementTransitionPool.release(transition);
+        }
+        sharedElementTransitions = null;
+    }
+
+    void setScene(SceneView scene, boolean popped) {
+        if (getView() != null && this.scene != null) {
+            pendingScene = scene;
+            pendingScenePopped = popped;
+            return;
+        }
+        SceneView oldScene = this.scene;
+        this.scene = scene;
+        if (popped && oldScene != null)
+            oldScene.popped();
+    }
+
+    void retainScene() {
+        sceneRetained = true;
+    }
 }
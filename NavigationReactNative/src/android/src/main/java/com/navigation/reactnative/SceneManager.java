@@ -27,6 +27,11 @@ public class SceneManager extends ViewGroupManager<SceneView> {
         view.sceneKey = sceneKey;
     }
 
+    @ReactProp(name = "stateKey")
+    public void setStateKey(SceneView view, String stateKey) {
+        view.stateKey = stateKey;
+    }
+
     @ReactProp(name = "enterAnim")
     public void setEnterAnim(SceneView view, String enterAnim) {
         view.enterAnim = enterAnim;
@@ -37,6 +42,11 @@ public class SceneManager extends ViewGroupManager<SceneView> {
         view.exitAnim = exitAnim;
     }
 
+    @ReactProp(name = "prewarm")
+    public void setPrewarm(SceneView view, boolean prewarm) {
+        view.prewarm = prewarm;
+    }
+
     @Nonnull
     @Override
     protected SceneView createViewInstance(@Nonnull ThemedReactContext reactContext) {
@@ -47,6 +57,8 @@ public class SceneManager extends ViewGroupManager<SceneView> {
     public Map<String, Object> getExportedCustomDirectEventTypeConstants() {
         return MapBuilder.<String, Object>builder()
             .put("topOnPopped", MapBuilder.of("registrationName", "onPopped"))
+            .put("topOnHibernate", MapBuilder.of("registrationName", "onHibernate"))
+            .put("topOnWake", MapBuilder.of("registrationName", "onWake"))
             .build();
     }
 }
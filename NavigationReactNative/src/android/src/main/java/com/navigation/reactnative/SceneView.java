@@ -1,24 +1,40 @@
 package com.navigation.reactnative;
 
 import android.content.Context;
+import android.graphics.Canvas;
+import android.view.TextureView;
 import android.view.View;
 
+import androidx.annotation.NonNull;
+import androidx.core.util.Pools;
+
 import com.facebook.react.bridge.ReactContext;
 import com.facebook.react.uimanager.UIManagerHelper;
-import com.facebook.react.uimanager.events.Event;
 import com.facebook.react.uimanager.events.EventDispatcher;
 import com.facebook.react.uimanager.events.RCTEventEmitter;
 import com.facebook.react.views.view.ReactViewGroup;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 
 public class SceneView extends ReactViewGroup {
     protected int crumb;
     protected String sceneKey;
+    protected String stateKey;
     protected String enterAnim;
     protected String exitAnim;
-    public final HashSet<SharedElementView> sharedElements = new HashSet<>();
+    public final HashMap<String, SharedElementView> sharedElements = new HashMap<>();
+    private final HashSet<SharedElementView> attachedSharedElements = new HashSet<>();
     public SharedElementMotion sharedElementMotion;
+    boolean prewarm = false;
+    boolean prewarmed = false;
+    boolean hibernated = false;
+    TransitionTiming transitionTiming;
+    private int layerType = -1;
+    private int layerRebuilds = 0;
+    private NavigationStackView layerStack;
+    private final HashSet<View> surfaceHosts = new HashSet<>();
 
     public SceneView(Context context) {
         super(context);
@@ -30,31 +46,139 @@ public class SceneView extends ReactViewGroup {
         View child = getChildAt(0);
         if (child != null && child.getClass().getSimpleName().contains("DrawerLayout")) {
             child.requestLayout();
-            post(measureAndLayoutDrawer);
+            LayoutScheduler.requestLayout(child, LayoutScheduler.ATTACH);
         }
     }
 
-    private final Runnable measureAndLayoutDrawer = new Runnable() {
-        @Override
-        public void run() {
-            View drawer = getChildAt(0);
-            if (drawer == null) return;
-            drawer.measure(
-                MeasureSpec.makeMeasureSpec(drawer.getWidth(), MeasureSpec.EXACTLY),
-                MeasureSpec.makeMeasureSpec(drawer.getHeight(), MeasureSpec.EXACTLY));
-            drawer.layout(drawer.getLeft(), drawer.getTop(), drawer.getRight(), drawer.getBottom());
+    void prewarm(int width, int height) {
+        if (prewarmed || width == 0 || height == 0)
+            return;
+        if (getWidth() != width || getHeight() != height) {
+            measure(
+                MeasureSpec.makeMeasureSpec(width, MeasureSpec.EXACTLY),
+                MeasureSpec.makeMeasureSpec(height, MeasureSpec.EXACTLY));
+            layout(0, 0, width, height);
+        }
+        for(int i = 0; i < getChildCount(); i++) {
+            View child = getChildAt(i);
+            if (child.getWidth() == 0 || child.getHeight() == 0)
+                continue;
+            child.measure(
+                MeasureSpec.makeMeasureSpec(child.getWidth(), MeasureSpec.EXACTLY),
+                MeasureSpec.makeMeasureSpec(child.getHeight(), MeasureSpec.EXACTLY));
+            child.layout(child.getLeft(), child.getTop(), child.getRight(), child.getBottom());
+        }
+        prewarmed = true;
+    }
+
+    void addSharedElement(SharedElementView sharedElement) {
+        attachedSharedElements.add(sharedElement);
+        if (sharedElement.getTransitionName() != null)
+            sharedElements.put(sharedElement.getTransitionName(), sharedElement);
+    }
+
+    void removeSharedElement(SharedElementView sharedElement) {
+        attachedSharedElements.remove(sharedElement);
+        String name = sharedElement.getTransitionName();
+        if (name == null || sharedElements.get(name) != sharedElement)
+            return;
+        sharedElements.remove(name);
+        for(SharedElementView attachedSharedElement : attachedSharedElements) {
+            if (name.equals(attachedSharedElement.getTransitionName())) {
+                sharedElements.put(name, attachedSharedElement);
+                break;
+            }
+        }
+    }
+
+    void promoteLayer() {
+        if (layerType != -1 || hasSurface())
+            return;
+        layerType = getLayerType();
+        layerRebuilds = -1;
+        setLayerType(LAYER_TYPE_HARDWARE, null);
+        if (getParent() instanceof NavigationStackView) {
+            layerStack = (NavigationStackView) getParent();
+            layerStack.promotedScenes.add(this);
+        }
+    }
+
+    void demoteLayer() {
+        if (layerType == -1)
+            return;
+        setLayerType(layerType, null);
+        layerType = -1;
+        if (layerStack != null) {
+            layerStack.promotedScenes.remove(this);
+            layerStack = null;
+        }
+        if (transitionTiming != null)
+            transitionTiming.set(TransitionTiming.LAYER_REBUILDS, Math.max(layerRebuilds, 0));
+    }
+
+    private boolean hasSurface() {
+        Iterator<View> iterator = surfaceHosts.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getParent() == this)
+                return true;
+            iterator.remove();
         }
-    };
+        return false;
+    }
+
+    @Override
+    public void requestTransparentRegion(View child) {
+        surfaceHosts.add(child);
+        super.requestTransparentRegion(child);
+    }
+
+    @Override
+    public void onDescendantInvalidated(@NonNull View child, @NonNull View target) {
+        super.onDescendantInvalidated(child, target);
+        if (target instanceof TextureView && surfaceHosts.add(child))
+            demoteLayer();
+    }
+
+    @Override
+    protected void dispatchDraw(Canvas canvas) {
+        if (layerType != -1)
+            layerRebuilds++;
+        super.dispatchDraw(canvas);
+    }
 
     protected void popped() {
         ReactContext reactContext = (ReactContext) getContext();
         EventDispatcher eventDispatcher = UIManagerHelper.getEventDispatcherForReactTag(reactContext, getId());
-        eventDispatcher.dispatchEvent(new PoppedEvent(getId()));
+        eventDispatcher.dispatchEvent(PoppedEvent.obtain(getId()));
+    }
+
+    void hibernate() {
+        if (hibernated)
+            return;
+        hibernated = true;
+        ReactContext reactContext = (ReactContext) getContext();
+        EventDispatcher eventDispatcher = UIManagerHelper.getEventDispatcherForReactTag(reactContext, getId());
+        eventDispatcher.dispatchEvent(HibernateEvent.obtain(getId()));
+    }
+
+    void wake() {
+        if (!hibernated)
+            return;
+        hibernated = false;
+        prewarmed = false;
+        ReactContext reactContext = (ReactContext) getContext();
+        EventDispatcher eventDispatcher = UIManagerHelper.getEventDispatcherForReactTag(reactContext, getId());
+        eventDispatcher.dispatchEvent(WakeEvent.obtain(getId()));
     }
 
-    static class PoppedEvent extends Event<PoppedEvent> {
-        public PoppedEvent(int viewId) {
-            super(viewId);
+    static class PoppedEvent extends PooledEvent<PoppedEvent> {
+        private static final Pools.SynchronizedPool<PoppedEvent> pool = new Pools.SynchronizedPool<>(3);
+
+        private PoppedEvent() {
+        }
+
+        static PoppedEvent obtain(int viewId) {
+            return acquire(pool, PoppedEvent::new, viewId);
         }
 
         @Override
@@ -67,4 +191,46 @@ public class SceneView extends ReactViewGroup {
             rctEventEmitter.receiveEvent(getViewTag(), getEventName(), null);
         }
     }
+
+    static class HibernateEvent extends PooledEvent<HibernateEvent> {
+        private static final Pools.SynchronizedPool<HibernateEvent> pool = new Pools.SynchronizedPool<>(3);
+
+        private HibernateEvent() {
+        }
+
+        static HibernateEvent obtain(int viewId) {
+            return acquire(pool, HibernateEvent::new, viewId);
+        }
+
+        @Override
+        public String getEventName() {
+            return "topOnHibernate";
+        }
+
+        @Override
+        public void dispatch(RCTEventEmitter rctEventEmitter) {
+            rctEventEmitter.receiveEvent(getViewTag(), getEventName(), null);
+        }
+    }
+
+    static class WakeEvent extends PooledEvent<WakeEvent> {
+        private static final Pools.SynchronizedPool<WakeEvent> pool = new Pools.SynchronizedPool<>(3);
+
+        private WakeEvent() {
+        }
+
+        static WakeEvent obtain(int viewId) {
+            return acquire(pool, WakeEvent::new, viewId);
+        }
+
+        @Override
+        public String getEventName() {
+            return "topOnWake";
+        }
+
+        @Override
+        public void dispatch(RCTEventEmitter rctEventEmitter) {
+            rctEventEmitter.receiveEvent(getViewTag(), getEventName(), null);
+        }
+    }
 }
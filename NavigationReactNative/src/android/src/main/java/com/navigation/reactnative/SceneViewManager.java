@@ -53,6 +53,11 @@ public class SceneViewManager extends ViewGroupManager<SceneView> implements NVS
         view.sceneKey = sceneKey;
     }
 
+    @ReactProp(name = "stateKey")
+    public void setStateKey(SceneView view, String stateKey) {
+        view.stateKey = stateKey;
+    }
+
     @ReactProp(name = "enterAnim")
     public void setEnterAnim(SceneView view, String enterAnim) {
         view.enterAnim = enterAnim;
@@ -63,6 +68,11 @@ public class SceneViewManager extends ViewGroupManager<SceneView> implements NVS
         view.exitAnim = exitAnim;
     }
 
+    @ReactProp(name = "prewarm")
+    public void setPrewarm(SceneView view, boolean prewarm) {
+        view.prewarm = prewarm;
+    }
+
     @Nonnull
     @Override
     protected SceneView createViewInstance(@Nonnull ThemedReactContext reactContext) {
@@ -73,6 +83,8 @@ public class SceneViewManager extends ViewGroupManager<SceneView> implements NVS
     public Map<String, Object> getExportedCustomDirectEventTypeConstants() {
         return MapBuilder.<String, Object>builder()
             .put("topOnPopped", MapBuilder.of("registrationName", "onPopped"))
+            .put("topOnHibernate", MapBuilder.of("registrationName", "onHibernate"))
+            .put("topOnWake", MapBuilder.of("registrationName", "onWake"))
             .build();
     }
 }
@@ -9,12 +9,12 @@ import android.widget.ImageButton;
 
 import androidx.appcompat.widget.SearchView;
 import androidx.coordinatorlayout.widget.CoordinatorLayout;
+import androidx.core.util.Pools;
 
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.ReactContext;
 import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.uimanager.UIManagerHelper;
-import com.facebook.react.uimanager.events.Event;
 import com.facebook.react.uimanager.events.EventDispatcher;
 import com.facebook.react.uimanager.events.RCTEventEmitter;
 import com.facebook.react.views.view.ReactViewGroup;
@@ -44,7 +44,7 @@ public class SearchBarView extends ReactViewGroup {
                 nativeEventCount++;
                 ReactContext reactContext = (ReactContext) getContext();
                 EventDispatcher eventDispatcher = UIManagerHelper.getEventDispatcherForReactTag(reactContext, getId());
-                eventDispatcher.dispatchEvent(new ChangeTextEvent(getId(), newText, nativeEventCount));
+                eventDispatcher.dispatchEvent(ChangeTextEvent.obtain(getId(), newText, nativeEventCount));
                 return false;
             }
         });
@@ -103,14 +103,14 @@ public class SearchBarView extends ReactViewGroup {
                 public void onSearchExpand() {
                     ReactContext reactContext = (ReactContext) getContext();
                     EventDispatcher eventDispatcher = UIManagerHelper.getEventDispatcherForReactTag(reactContext, getId());
-                    eventDispatcher.dispatchEvent(new ExpandEvent(getId()));
+                    eventDispatcher.dispatchEvent(ExpandEvent.obtain(getId()));
                 }
 
                 @Override
                 public void onSearchCollapse() {
                     ReactContext reactContext = (ReactContext) getContext();
                     EventDispatcher eventDispatcher = UIManagerHelper.getEventDispatcherForReactTag(reactContext, getId());
-                    eventDispatcher.dispatchEvent(new CollapseEvent(getId()));
+                    eventDispatcher.dispatchEvent(CollapseEvent.obtain(getId()));
                 }
             });
         }
@@ -131,14 +131,25 @@ public class SearchBarView extends ReactViewGroup {
     protected void onLayout(boolean changed, int l, int t, int r, int b) {
     }
 
-    static class ChangeTextEvent extends Event<ChangeTextEvent> {
-        private final String text;
-        private final int eventCount;
+    static class ChangeTextEvent extends PooledEvent<ChangeTextEvent> {
+        private String text;
+        private int eventCount;
+        private static final Pools.SynchronizedPool<ChangeTextEvent> pool = new Pools.SynchronizedPool<>(3);
 
-        public ChangeTextEvent(int viewId, String text, int eventCount) {
-            super(viewId);
-            this.text = text;
-            this.eventCount = eventCount;
+        private ChangeTextEvent() {
+        }
+
+        static ChangeTextEvent obtain(int viewId, String text, int eventCount) {
+            ChangeTextEvent event = acquire(pool, ChangeTextEvent::new, viewId);
+            event.text = text;
+            event.eventCount = eventCount;
+            return event;
+        }
+
+        @Override
+        public void onDispose() {
+            text = null;
+            super.onDispose();
         }
 
         @Override
@@ -155,9 +166,14 @@ public class SearchBarView extends ReactViewGroup {
         }
     }
 
-    static class ExpandEvent extends Event<SearchBarView.ExpandEvent> {
-        public ExpandEvent(int viewId) {
-            super(viewId);
+    static class ExpandEvent extends PooledEvent<SearchBarView.ExpandEvent> {
+        private static final Pools.SynchronizedPool<ExpandEvent> pool = new Pools.SynchronizedPool<>(3);
+
+        private ExpandEvent() {
+        }
+
+        static ExpandEvent obtain(int viewId) {
+            return acquire(pool, ExpandEvent::new, viewId);
         }
 
         @Override
@@ -171,9 +187,14 @@ public class SearchBarView extends ReactViewGroup {
         }
     }
 
-    static class CollapseEvent extends Event<SearchBarView.CollapseEvent> {
-        public CollapseEvent(int viewId) {
-            super(viewId);
+    static class CollapseEvent extends PooledEvent<SearchBarView.CollapseEvent> {
+        private static final Pools.SynchronizedPool<CollapseEvent> pool = new Pools.SynchronizedPool<>(3);
+
+        private CollapseEvent() {
+        }
+
+        static CollapseEvent obtain(int viewId) {
+            return acquire(pool, CollapseEvent::new, viewId);
         }
 
         @Override
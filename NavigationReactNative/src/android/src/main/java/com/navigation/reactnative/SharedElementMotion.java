@@ -1,27 +1,71 @@
 package com.navigation.reactnative;
 
+import androidx.transition.TransitionSet;
+
 import com.google.android.material.transition.MaterialContainerTransform;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
 class SharedElementMotion {
+    private final NavigationStackView stack;
     private final SceneFragment enterScene;
     private final SceneFragment scene;
-    private final String sharedElement;
+    private final HashSet<String> pendingSharedElements;
+    private final TransitionSet transition = new TransitionSet();
+    private final ArrayList<MaterialContainerTransform> sharedElementTransitions = new ArrayList<>();
+    private final int timeout;
+    private final SharedElementTransitionPool pool;
+    private boolean started = false;
 
-    SharedElementMotion(SceneFragment enterScene, SceneFragment scene, String sharedElement) {
-        this.sharedElement = sharedElement;
+    SharedElementMotion(NavigationStackView stack, SceneFragment enterScene, SceneFragment scene, List<String> sharedElements, int timeout) {
+        this.stack = stack;
         this.enterScene = enterScene;
         this.scene = scene;
+        this.pendingSharedElements = new HashSet<>(sharedElements);
+        this.timeout = timeout;
+        this.pool = stack.getSharedElementTransitionPool();
+    }
+
+    void postpone() {
+        scene.postponeEnterTransition();
+        if (timeout >= 0)
+            stack.postDelayed(timeoutRunnable, timeout);
     }
 
     void load(SharedElementView sharedElementView) {
-        if (sharedElement.equals(sharedElementView.getTransitionName())) {
-            MaterialContainerTransform transition = sharedElementView.transition;
-            transition.setTransitionDirection(enterScene == scene ? MaterialContainerTransform.TRANSITION_DIRECTION_ENTER : MaterialContainerTransform.TRANSITION_DIRECTION_RETURN);
-            transition.addTarget(sharedElementView.getTransitionName());
-            enterScene.setSharedElementEnterTransition(transition);
-            enterScene.setSharedElementReturnTransition(transition);
-            scene.startPostponedEnterTransition();
-            scene.getScene().sharedElementMotion = null;
-        }
+        if (started || !pendingSharedElements.remove(sharedElementView.getTransitionName()))
+            return;
+        MaterialContainerTransform sharedElementTransition = pool.acquire(sharedElementView);
+        sharedElementTransition.setTransitionDirection(enterScene == scene ? MaterialContainerTransform.TRANSITION_DIRECTION_ENTER : MaterialContainerTransform.TRANSITION_DIRECTION_RETURN);
+        transition.addTransition(sharedElementTransition);
+        sharedElementTransitions.add(sharedElementTransition);
+        if (pendingSharedElements.isEmpty())
+            start();
     }
+
+    private void start() {
+        started = true;
+        stack.removeCallbacks(timeoutRunnable);
+        enterScene.setSharedElementTransition(transition.getTransitionCount() > 0 ? transition : null, sharedElementTransitions, pool);
+        SceneView sceneView = scene.getScene();
+        if (sceneView != null && sceneView.transitionTiming != null)
+            sceneView.transitionTiming.resume();
+        scene.startPostponedEnterTransition();
+        if (sceneView != null && sceneView.sharedElementMotion == this)
+            sceneView.sharedElementMotion = null;
+    }
+
+    private final Runnable timeoutRunnable = new Runnable() {
+        @Override
+        public void run() {
+            if (started)
+                return;
+            ArrayList<String> missedSharedElements = new ArrayList<>(pendingSharedElements);
+            start();
+            SceneView sceneView = scene.getScene();
+            stack.onSharedElementTimeout(sceneView != null ? sceneView.crumb : -1, missedSharedElements);
+        }
+    };
 }
@@ -0,0 +1,44 @@
+package com.navigation.reactnative;
+
+import android.content.Context;
+
+import com.google.android.material.transition.MaterialContainerTransform;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+
+class SharedElementTransitionPool {
+    private static final int MAX_SIZE = 8;
+    private final Context context;
+    private final ArrayDeque<MaterialContainerTransform> transitions = new ArrayDeque<>();
+    private final long defaultDuration;
+    private final int defaultFadeMode;
+
+    SharedElementTransitionPool(Context context) {
+        this.context = context;
+        MaterialContainerTransform transition = new MaterialContainerTransform(context, false);
+        defaultDuration = transition.getDuration();
+        defaultFadeMode = transition.getFadeMode();
+        transitions.push(transition);
+    }
+
+    MaterialContainerTransform acquire(SharedElementView sharedElementView) {
+        MaterialContainerTransform transition = transitions.poll();
+        if (transition == null)
+            transition = new MaterialContainerTransform(context, false);
+        transition.setDuration(sharedElementView.duration != -1 ? sharedElementView.duration : defaultDuration);
+        transition.setFadeMode(sharedElementView.fadeMode != -1 ? sharedElementView.fadeMode : defaultFadeMode);
+        transition.addTarget(sharedElementView.getTransitionName());
+        return transition;
+    }
+
+    void release(MaterialContainerTransform transition) {
+        if (transition.getTargetNames() != null) {
+            for(String targetName : new ArrayList<>(transition.getTargetNames())) {
+                transition.removeTarget(targetName);
+            }
+        }
+        if (transitions.size() < MAX_SIZE)
+            transitions.push(transition);
+    }
+}
@@ -5,26 +5,22 @@ import android.view.ViewGroup;
 import android.view.ViewParent;
 import android.view.ViewTreeObserver;
 
-import com.google.android.material.transition.MaterialContainerTransform;
-
 public class SharedElementView extends ViewGroup {
-    final MaterialContainerTransform transition;
-    final long defaultDuration;
-    final int defaultFadeMode;
+    int duration = -1;
+    int fadeMode = -1;
+    private SceneView scene;
 
     public SharedElementView(Context context) {
         super(context);
-        transition = new MaterialContainerTransform(context, false);
-        defaultDuration = transition.getDuration();
-        defaultFadeMode = transition.getFadeMode();
     }
 
     @Override
     protected void onAttachedToWindow() {
         super.onAttachedToWindow();
         final SceneView scene = getScene();
+        this.scene = scene;
         if (scene == null) return;
-        scene.sharedElements.add(this);
+        scene.addSharedElement(this);
         getViewTreeObserver().addOnPreDrawListener(new ViewTreeObserver.OnPreDrawListener() {
             @Override
             public boolean onPreDraw() {
@@ -39,8 +35,14 @@ public class SharedElementView extends ViewGroup {
     @Override
     protected void onDetachedFromWindow() {
         super.onDetachedFromWindow();
-        SceneView scene = getScene();
-        if (scene != null) scene.sharedElements.remove(this);
+        if (scene != null) scene.removeSharedElement(this);
+        scene = null;
+    }
+
+    void setName(String name) {
+        if (scene != null) scene.removeSharedElement(this);
+        setTransitionName(name);
+        if (scene != null) scene.addSharedElement(this);
     }
 
     private SceneView getScene() {
@@ -0,0 +1,139 @@
+package com.navigation.reactnative;
+
+import android.content.Context;
+import android.graphics.Typeface;
+import android.text.SpannableString;
+import android.text.SpannedString;
+import android.text.TextPaint;
+import android.text.style.AbsoluteSizeSpan;
+import android.text.style.MetricAffectingSpan;
+import android.text.style.StyleSpan;
+import android.util.LruCache;
+import android.util.SparseArray;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.util.ObjectsCompat;
+
+import com.facebook.react.views.text.ReactTypefaceUtils;
+
+import java.util.HashMap;
+
+class StyledText {
+    private static final LruCache<Key, SpannedString> cache = new LruCache<>(64);
+    private static final HashMap<String, FontFamilySpan> typefaceSpans = new HashMap<>();
+    private static final HashMap<String, StyleSpan> weightSpans = new HashMap<>();
+    private static final HashMap<String, StyleSpan> styleSpans = new HashMap<>();
+    private static final SparseArray<AbsoluteSizeSpan> sizeSpans = new SparseArray<>();
+
+    @Nullable
+    static CharSequence get(Context context, @Nullable String text, @Nullable String fontFamily, @Nullable String fontWeight, @Nullable String fontStyle, @Nullable Integer fontSize) {
+        if (text == null)
+            return null;
+        Key key = new Key(text, fontFamily, fontWeight, fontStyle, fontSize);
+        SpannedString styledText = cache.get(key);
+        if (styledText == null) {
+            SpannableString spannable = new SpannableString(text);
+            if (fontFamily != null)
+                spannable.setSpan(getTypefaceSpan(context, fontFamily), 0, text.length(), 0);
+            if (fontWeight != null)
+                spannable.setSpan(getWeightSpan(fontWeight), 0, text.length(), 0);
+            if (fontStyle != null)
+                spannable.setSpan(getStyleSpan(fontStyle), 0, text.length(), 0);
+            if (fontSize != null)
+                spannable.setSpan(getSizeSpan(fontSize), 0, text.length(), 0);
+            styledText = new SpannedString(spannable);
+            cache.put(key, styledText);
+        }
+        return styledText;
+    }
+
+    private static FontFamilySpan getTypefaceSpan(Context context, String fontFamily) {
+        FontFamilySpan span = typefaceSpans.get(fontFamily);
+        if (span == null) {
+            span = new FontFamilySpan(TypefaceCache.get(context, fontFamily));
+            typefaceSpans.put(fontFamily, span);
+        }
+        return span;
+    }
+
+    private static StyleSpan getWeightSpan(String fontWeight) {
+        StyleSpan span = weightSpans.get(fontWeight);
+        if (span == null) {
+            span = new StyleSpan(ReactTypefaceUtils.parseFontWeight(fontWeight));
+            weightSpans.put(fontWeight, span);
+        }
+        return span;
+    }
+
+    private static StyleSpan getStyleSpan(String fontStyle) {
+        StyleSpan span = styleSpans.get(fontStyle);
+        if (span == null) {
+            span = new StyleSpan(ReactTypefaceUtils.parseFontStyle(fontStyle));
+            styleSpans.put(fontStyle, span);
+        }
+        return span;
+    }
+
+    private static AbsoluteSizeSpan getSizeSpan(int fontSize) {
+        AbsoluteSizeSpan span = sizeSpans.get(fontSize);
+        if (span == null) {
+            span = new AbsoluteSizeSpan(fontSize, true);
+            sizeSpans.put(fontSize, span);
+        }
+        return span;
+    }
+
+    private static class FontFamilySpan extends MetricAffectingSpan {
+        private final Typeface typeface;
+
+        FontFamilySpan(Typeface typeface) {
+            this.typeface = typeface;
+        }
+
+        @Override
+        public void updateDrawState(TextPaint paint) {
+            paint.setTypeface(typeface);
+        }
+
+        @Override
+        public void updateMeasureState(@NonNull TextPaint paint) {
+            paint.setTypeface(typeface);
+        }
+    }
+
+    private static class Key {
+        private final String text;
+        private final String fontFamily;
+        private final String fontWeight;
+        private final String fontStyle;
+        private final Integer fontSize;
+        private final int hashCode;
+
+        Key(String text, String fontFamily, String fontWeight, String fontStyle, Integer fontSize) {
+            this.text = text;
+            this.fontFamily = fontFamily;
+            this.fontWeight = fontWeight;
+            this.fontStyle = fontStyle;
+            this.fontSize = fontSize;
+            hashCode = ObjectsCompat.hash(text, fontFamily, fontWeight, fontStyle, fontSize);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key))
+                return false;
+            Key key = (Key) o;
+            return text.equals(key.text) && ObjectsCompat.equals(fontFamily, key.fontFamily)
+                && ObjectsCompat.equals(fontWeight, key.fontWeight) && ObjectsCompat.equals(fontStyle, key.fontStyle)
+                && ObjectsCompat.equals(fontSize, key.fontSize);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
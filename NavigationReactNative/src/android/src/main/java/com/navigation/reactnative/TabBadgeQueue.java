@@ -0,0 +1,83 @@
+package com.navigation.reactnative;
+
+import android.view.Choreographer;
+
+import com.google.android.material.badge.BadgeDrawable;
+
+import java.util.Arrays;
+
+class TabBadgeQueue implements Choreographer.FrameCallback {
+    private final TabView tabView;
+    private Badge[] badges = new Badge[0];
+    private boolean scheduled = false;
+    private boolean defaultColorResolved = false;
+    private int defaultColor;
+
+    TabBadgeQueue(TabView tabView) {
+        this.tabView = tabView;
+    }
+
+    void update(int index, Integer number, Integer color) {
+        if (index >= badges.length)
+            badges = Arrays.copyOf(badges, index + 1);
+        if (badges[index] == null)
+            badges[index] = new Badge();
+        Badge badge = badges[index];
+        badge.visible = number != null;
+        badge.number = number != null ? number : 0;
+        badge.colored = color != null;
+        badge.color = color != null ? color : 0;
+        badge.dirty = true;
+        schedule();
+    }
+
+    void invalidate(int index) {
+        if (index < badges.length && badges[index] != null)
+            badges[index].drawable = null;
+    }
+
+    private void schedule() {
+        if (!scheduled) {
+            scheduled = true;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        scheduled = false;
+        for (int i = 0; i < badges.length; i++) {
+            Badge badge = badges[i];
+            if (badge == null || !badge.dirty)
+                continue;
+            badge.dirty = false;
+            if (!badge.visible) {
+                tabView.removeBadgeIcon(i);
+                badge.drawable = null;
+                continue;
+            }
+            if (badge.drawable == null)
+                badge.drawable = tabView.getBadgeIcon(i);
+            if (badge.drawable == null)
+                continue;
+            if (!defaultColorResolved) {
+                defaultColor = badge.drawable.getBackgroundColor();
+                defaultColorResolved = true;
+            }
+            if (badge.drawable.getNumber() != badge.number)
+                badge.drawable.setNumber(badge.number);
+            int color = badge.colored ? badge.color : defaultColor;
+            if (badge.drawable.getBackgroundColor() != color)
+                badge.drawable.setBackgroundColor(color);
+        }
+    }
+
+    private static class Badge {
+        private boolean dirty;
+        private boolean visible;
+        private int number;
+        private boolean colored;
+        private int color;
+        private BadgeDrawable drawable;
+    }
+}
@@ -2,22 +2,18 @@ package com.navigation.reactnative;
 
 import android.content.Context;
 import android.graphics.drawable.Drawable;
-import android.text.SpannableString;
-import android.text.style.AbsoluteSizeSpan;
-import android.text.style.StyleSpan;
-import android.text.style.TypefaceSpan;
 import android.view.View;
 import android.view.ViewGroup;
 
 import androidx.annotation.Nullable;
+import androidx.core.util.Pools;
 
 import com.facebook.react.bridge.ReactContext;
 import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.uimanager.UIManagerHelper;
-import com.facebook.react.uimanager.events.Event;
 import com.facebook.react.uimanager.events.EventDispatcher;
 import com.facebook.react.uimanager.events.RCTEventEmitter;
-import com.facebook.react.views.text.ReactTypefaceUtils;
+import com.google.android.material.tabs.TabLayout;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -35,7 +31,6 @@ public class TabBarItemView extends ViewGroup {
     private TabView tabView;
     private Integer badge;
     private Integer badgeColor;
-    private Integer defaultBadgeColor;
     private String testID;
     final List<View> content = new ArrayList<>();
     private final IconResolver.IconResolverListener tabIconResolverListener;
@@ -84,31 +79,14 @@ public class TabBarItemView extends ViewGroup {
 
     void setBadge(@Nullable Integer badge) {
         this.badge = badge;
-        if (tabView == null)
-            return;
-        try {
-            if (badge != null)
-                tabView.getBadgeIcon(index).setNumber(badge);
-            else
-                tabView.removeBadgeIcon(index);
-        } catch(IllegalArgumentException ignored) {
-        }
-        setBadgeColor(badgeColor);
+        if (tabView != null)
+            tabView.getBadgeQueue().update(index, badge, badgeColor);
     }
 
     void setBadgeColor(@Nullable Integer badgeColor) {
         this.badgeColor = badgeColor;
-        if (tabView == null || badge == null)
-            return;
-        try {
-            if (defaultBadgeColor == null)
-                defaultBadgeColor = tabView.getBadgeIcon(index).getBackgroundColor();
-            if (badgeColor != null)
-                tabView.getBadgeIcon(index).setBackgroundColor(badgeColor);
-            else
-                tabView.getBadgeIcon(index).setBackgroundColor(defaultBadgeColor);
-        } catch(IllegalArgumentException ignored) {
-        }
+        if (tabView != null && badge != null)
+            tabView.getBadgeQueue().update(index, badge, badgeColor);
     }
 
     void setTestID(String testID) {
@@ -123,26 +101,26 @@ public class TabBarItemView extends ViewGroup {
         this.index = index;
         if (icon != null)
             tabView.setIcon(index, icon);
+        tabView.getBadgeQueue().invalidate(index);
         setBadge(badge);
         tabView.setTitle(index, styledTitle);
         tabView.setTestID(index, testID);
     }
 
+    void setTab(TabView tabView, TabLayout.Tab tab, int index) {
+        this.tabView = tabView;
+        this.index = index;
+        tab.setText(styledTitle);
+        if (icon != null)
+            tab.setIcon(icon);
+        tab.view.setTag(testID);
+        tabView.getBadgeQueue().invalidate(index);
+        setBadge(badge);
+    }
+
     void styleTitle() {
         if (titleChanged) {
-            SpannableString titleSpannable = null;
-            if (title != null) {
-                titleSpannable = new SpannableString(title);
-                if (fontFamily != null)
-                    titleSpannable.setSpan(new TypefaceSpan(fontFamily), 0, title.length(), 0);
-                if (fontWeight != null)
-                    titleSpannable.setSpan(new StyleSpan(ReactTypefaceUtils.parseFontWeight(fontWeight)), 0, title.length(), 0);
-                if (fontStyle != null)
-                    titleSpannable.setSpan(new StyleSpan(ReactTypefaceUtils.parseFontStyle(fontStyle)), 0, title.length(), 0);
-                if (fontSize != null)
-                    titleSpannable.setSpan(new AbsoluteSizeSpan(fontSize, true), 0, title.length(), 0);
-            }
-            styledTitle = titleSpannable;
+            styledTitle = StyledText.get(getContext(), title, fontFamily, fontWeight, fontStyle, fontSize);
             if (tabView != null)
                 tabView.setTitle(index, styledTitle);
             titleChanged = false;
@@ -152,7 +130,7 @@ public class TabBarItemView extends ViewGroup {
     protected void pressed() {
         ReactContext reactContext = (ReactContext) getContext();
         EventDispatcher eventDispatcher = UIManagerHelper.getEventDispatcherForReactTag(reactContext, getId());
-        eventDispatcher.dispatchEvent(new TabBarItemView.PressEvent(getId()));
+        eventDispatcher.dispatchEvent(TabBarItemView.PressEvent.obtain(getId()));
     }
 
     @Override
@@ -163,9 +141,14 @@ public class TabBarItemView extends ViewGroup {
         void onChange(TabBarItemView tabBarItemView);
     }
 
-    static class PressEvent extends Event<TabBarItemView.PressEvent> {
-        public PressEvent(int viewId) {
-            super(viewId);
+    static class PressEvent extends PooledEvent<TabBarItemView.PressEvent> {
+        private static final Pools.SynchronizedPool<PressEvent> pool = new Pools.SynchronizedPool<>(3);
+
+        private PressEvent() {
+        }
+
+        static PressEvent obtain(int viewId) {
+            return acquire(pool, PressEvent::new, viewId);
         }
 
         @Override
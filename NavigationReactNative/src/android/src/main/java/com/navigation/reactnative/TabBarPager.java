@@ -0,0 +1,222 @@
+package com.navigation.reactnative;
+
+import android.os.Bundle;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.coordinatorlayout.widget.CoordinatorLayout;
+import androidx.core.util.Pools;
+import androidx.core.view.ViewCompat;
+import androidx.fragment.app.Fragment;
+import androidx.fragment.app.FragmentActivity;
+import androidx.fragment.app.FragmentManager;
+import androidx.fragment.app.FragmentTransaction;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.viewpager2.widget.ViewPager2;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReactContext;
+import com.facebook.react.bridge.WritableMap;
+import com.facebook.react.common.MapBuilder;
+import com.facebook.react.uimanager.ThemedReactContext;
+import com.facebook.react.uimanager.UIManagerHelper;
+import com.facebook.react.uimanager.events.EventDispatcher;
+import com.facebook.react.uimanager.events.RCTEventEmitter;
+
+import java.util.Map;
+
+class TabBarPager {
+    static ViewPager2 create(@NonNull final ThemedReactContext reactContext, int layoutDirection) {
+        final ViewPager2 tabBarPager = new ViewPager2(reactContext);
+        ViewCompat.setLayoutDirection(tabBarPager, layoutDirection);
+        FragmentActivity activity = (FragmentActivity) reactContext.getCurrentActivity();
+        Fragment fragment = new TabBarPagerFragment(tabBarPager);
+        if (activity != null) {
+            FragmentTransaction transaction = activity.getSupportFragmentManager().beginTransaction();
+            transaction.add(fragment, "TabBarPager" + tabBarPager.getId());
+            transaction.commitNowAllowingStateLoss();
+        }
+        final TabBarPagerAdapter tabBarPagerAdapter = new TabBarPagerAdapter(fragment);
+        tabBarPager.setAdapter(tabBarPagerAdapter);
+        tabBarPager.registerOnPageChangeCallback(new ViewPager2.OnPageChangeCallback() {
+            private boolean swiping = false;
+
+            @Override
+            public void onPageScrolled(int position, float positionOffset, int positionOffsetPixels) {
+                super.onPageScrolled(position, positionOffset, positionOffsetPixels);
+                if (positionOffset > 0)
+                    tabBarPagerAdapter.materializeTabs(position, position + 1);
+            }
+
+            @Override
+            public void onPageSelected(int position) {
+                super.onPageSelected(position);
+                tabBarPagerAdapter.materializeTabs(position, position);
+                if (!tabBarPagerAdapter.dataSetChanged)
+                    tabBarPagerAdapter.nativeEventCount++;
+                tabBarPagerAdapter.selectedTab = position;
+                EventDispatcher eventDispatcher = UIManagerHelper.getEventDispatcherForReactTag(reactContext, tabBarPager.getId());
+                eventDispatcher.dispatchEvent(TabSelectedEvent.obtain(tabBarPager.getId(), position, tabBarPagerAdapter.nativeEventCount));
+                tabBarPagerAdapter.getTabAt(position).pressed();
+            }
+
+            @Override
+            public void onPageScrollStateChanged(int state) {
+                super.onPageScrollStateChanged(state);
+                if (swiping == (state == ViewPager2.SCROLL_STATE_DRAGGING))
+                    return;
+                swiping = !swiping;
+                EventDispatcher eventDispatcher = UIManagerHelper.getEventDispatcherForReactTag(reactContext, tabBarPager.getId());
+                eventDispatcher.dispatchEvent(TabSwipeStateChangedEvent.obtain(tabBarPager.getId(), swiping));
+            }
+        });
+        tabBarPagerAdapter.registerAdapterDataObserver(new RecyclerView.AdapterDataObserver() {
+            @Override
+            public void onItemRangeInserted(int positionStart, int itemCount) {
+                super.onItemRangeInserted(positionStart, itemCount);
+                if (tabBarPager.getCurrentItem() != tabBarPagerAdapter.selectedTab
+                        && tabBarPagerAdapter.getTabsCount() > tabBarPagerAdapter.selectedTab) {
+                    setCurrentItem(tabBarPager, tabBarPagerAdapter.selectedTab);
+                }
+            }
+        });
+        return tabBarPager;
+    }
+
+    static TabBarPagerAdapter getAdapter(ViewPager2 view) {
+        return (TabBarPagerAdapter) view.getAdapter();
+    }
+
+    static void setSelectedTab(ViewPager2 view, int selectedTab) {
+        int eventLag = getAdapter(view).nativeEventCount - getAdapter(view).mostRecentEventCount;
+        if (eventLag == 0 && view.getCurrentItem() != selectedTab) {
+            getAdapter(view).selectedTab = selectedTab;
+            if (getAdapter(view).getTabsCount() > selectedTab)
+                setCurrentItem(view, selectedTab);
+        }
+    }
+
+    private static void setCurrentItem(final ViewPager2 view, int selectedTab) {
+        view.setCurrentItem(selectedTab, false);
+        LayoutScheduler.requestLayout(view, LayoutScheduler.SET_CURRENT_ITEM);
+    }
+
+    static void setOffscreenPageLimit(ViewPager2 view, int offscreenPageLimit) {
+        view.setOffscreenPageLimit(offscreenPageLimit > 0 ? offscreenPageLimit : ViewPager2.OFFSCREEN_PAGE_LIMIT_DEFAULT);
+        getAdapter(view).setPageLimit(offscreenPageLimit);
+    }
+
+    static void populateTabs(ViewPager2 view) {
+        getAdapter(view).populateTabs(getTabLayout(view));
+    }
+
+    static void removeFragment(ViewPager2 view) {
+        FragmentActivity activity = (FragmentActivity) ((ReactContext) view.getContext()).getCurrentActivity();
+        Fragment fragment = getAdapter(view).fragment;
+        if (activity != null && fragment != null) {
+            FragmentManager fragmentManager = activity.getSupportFragmentManager();
+            FragmentTransaction fragmentTransaction = fragmentManager.beginTransaction();
+            fragmentTransaction.remove(fragment);
+            fragmentTransaction.commitAllowingStateLoss();
+        }
+    }
+
+    static Map<String, Object> getExportedCustomDirectEventTypeConstants() {
+        return MapBuilder.<String, Object>builder()
+            .put("topOnTabSelected", MapBuilder.of("registrationName", "onTabSelected"))
+            .put("topOnTabSwipeStateChanged", MapBuilder.of("registrationName", "onTabSwipeStateChanged"))
+            .build();
+    }
+
+    private static TabLayoutView getTabLayout(View view) {
+        ViewGroup parent = (ViewGroup) view.getParent();
+        if (parent instanceof CoordinatorLayout) {
+            parent = (ViewGroup) parent.getChildAt(0);
+            if (parent.getChildAt(0) instanceof CollapsingBarView)
+                parent = (ViewGroup) parent.getChildAt(0);
+        }
+        for(int i = 0; parent != null && i < parent.getChildCount(); i++) {
+            View child = parent.getChildAt(i);
+            if (child instanceof TabLayoutView)
+                return (TabLayoutView) child;
+        }
+        return null;
+    }
+
+    public static class TabBarPagerFragment extends Fragment {
+        private ViewPager2 tabBarPager;
+
+        public TabBarPagerFragment() {
+            super();
+        }
+
+        TabBarPagerFragment(ViewPager2 tabBarPager) {
+            super();
+            this.tabBarPager = tabBarPager;
+        }
+
+        @Nullable
+        @Override
+        public View onCreateView(@NonNull LayoutInflater inflater, @Nullable ViewGroup container, @Nullable Bundle savedInstanceState) {
+            return tabBarPager != null ? tabBarPager : new View(getContext());
+        }
+    }
+
+    static class TabSelectedEvent extends PooledEvent<TabBarPager.TabSelectedEvent> {
+        private int tab;
+        private int eventCount;
+        private static final Pools.SynchronizedPool<TabSelectedEvent> pool = new Pools.SynchronizedPool<>(3);
+
+        private TabSelectedEvent() {
+        }
+
+        static TabSelectedEvent obtain(int viewId, int tab, int eventCount) {
+            TabSelectedEvent event = acquire(pool, TabSelectedEvent::new, viewId);
+            event.tab = tab;
+            event.eventCount = eventCount;
+            return event;
+        }
+
+        @Override
+        public String getEventName() {
+            return "topOnTabSelected";
+        }
+
+        @Override
+        public void dispatch(RCTEventEmitter rctEventEmitter) {
+            WritableMap event = Arguments.createMap();
+            event.putInt("tab", this.tab);
+            event.putInt("eventCount", this.eventCount);
+            rctEventEmitter.receiveEvent(getViewTag(), getEventName(), event);
+        }
+    }
+
+    static class TabSwipeStateChangedEvent extends PooledEvent<TabBarPager.TabSwipeStateChangedEvent> {
+        private boolean swiping;
+        private static final Pools.SynchronizedPool<TabSwipeStateChangedEvent> pool = new Pools.SynchronizedPool<>(3);
+
+        private TabSwipeStateChangedEvent() {
+        }
+
+        static TabSwipeStateChangedEvent obtain(int viewId, boolean swiping) {
+            TabSwipeStateChangedEvent event = acquire(pool, TabSwipeStateChangedEvent::new, viewId);
+            event.swiping = swiping;
+            return event;
+        }
+
+        @Override
+        public String getEventName() {
+            return "topOnTabSwipeStateChanged";
+        }
+
+        @Override
+        public void dispatch(RCTEventEmitter rctEventEmitter) {
+            WritableMap event = Arguments.createMap();
+            event.putBoolean("swiping", this.swiping);
+            rctEventEmitter.receiveEvent(getViewTag(), getEventName(), event);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.navigation.reactnative;
+
+import android.view.Choreographer;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.ScrollView;
+
+import androidx.annotation.NonNull;
+import androidx.fragment.app.Fragment;
+import androidx.viewpager2.adapter.FragmentStateAdapter;
+import androidx.viewpager2.widget.ViewPager2;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+
+public class TabBarPagerAdapter extends FragmentStateAdapter {
+    private final List<TabBarItemView> tabBarItems = new ArrayList<>();
+    private final HashMap<TabBarItemView, Integer> positions = new HashMap<>();
+    private final HashMap<TabBarItemView, Long> itemIds = new HashMap<>();
+    private final HashMap<Long, View> itemContent = new HashMap<>();
+    private final HashMap<TabBarItemView, TabFragment> tabFragments = new HashMap<>();
+    private final HashSet<TabBarItemView> changedTabs = new HashSet<>();
+    private long nextItemId = 0;
+    private boolean changesScheduled = false;
+    private int pageLimit = ViewPager2.OFFSCREEN_PAGE_LIMIT_DEFAULT;
+    final Fragment fragment;
+    int selectedTab = 0;
+    boolean scrollsToTop;
+    int nativeEventCount;
+    int mostRecentEventCount;
+    boolean dataSetChanged = false;
+
+    public TabBarPagerAdapter(@NonNull Fragment fragment) {
+        super(fragment);
+        this.fragment = fragment;
+    }
+
+    void populateTabs(TabLayoutView tabView) {
+        if (tabView == null || tabView.getTabCount() != tabBarItems.size())
+            return;
+        for(int i = 0; i < tabBarItems.size(); i++) {
+            tabBarItems.get(i).setTabView(tabView, i);
+        }
+    }
+
+    void scrollToTop() {
+        if (!scrollsToTop)
+            return;
+        View tabBarItem = getTabAt(selectedTab).content.get(0);
+        if (tabBarItem instanceof ViewGroup) {
+            ViewGroup viewGroup = (ViewGroup) tabBarItem;
+            for(int i = 0; i < viewGroup.getChildCount(); i++) {
+                if (viewGroup.getChildAt(i) instanceof NavigationBarView)
+                    ((NavigationBarView) viewGroup.getChildAt(i)).setExpanded(true);
+                if (viewGroup.getChildAt(i) instanceof ScrollView)
+                    ((ScrollView) viewGroup.getChildAt(i)).smoothScrollTo(0,0);
+                if (viewGroup.getChildAt(i) instanceof ViewPager2)
+                    TabBarPager.getAdapter((ViewPager2) viewGroup.getChildAt(i)).scrollToTop();
+            }
+        }
+        if (tabBarItem instanceof ScrollView)
+            ((ScrollView) tabBarItem).smoothScrollTo(0, 0);
+        if (tabBarItem instanceof NavigationStackView)
+            ((NavigationStackView) tabBarItem).scrollToTop();
+    }
+
+    void setPageLimit(int pageLimit) {
+        this.pageLimit = pageLimit;
+        if (pageLimit != 0) {
+            for(TabFragment tabFragment : tabFragments.values()) {
+                tabFragment.materialize();
+            }
+        }
+    }
+
+    void materializeTabs(int from, int to) {
+        for(int i = Math.max(from, 0); i <= to && i < tabBarItems.size(); i++) {
+            TabFragment tabFragment = tabFragments.get(tabBarItems.get(i));
+            if (tabFragment != null)
+                tabFragment.materialize();
+        }
+    }
+
+    int getTabsCount() {
+        return tabBarItems.size();
+    }
+
+    TabBarItemView getTabAt(int index) {
+        return tabBarItems.get(index);
+    }
+
+    void addTab(TabBarItemView tab, int index) {
+        tabBarItems.add(index, tab);
+        indexPositions(index);
+        assignItemId(tab);
+        tab.changeListener = this::changeTab;
+        dataSetChanged = true;
+        notifyItemInserted(index);
+        dataSetChanged = false;
+    }
+
+    void removeTab(int index) {
+        TabBarItemView tab = tabBarItems.remove(index);
+        tab.changeListener = null;
+        positions.remove(tab);
+        tabFragments.remove(tab);
+        itemContent.remove(itemIds.remove(tab));
+        changedTabs.remove(tab);
+        indexPositions(index);
+        dataSetChanged = true;
+        notifyItemRemoved(index);
+        dataSetChanged = false;
+    }
+
+    private void indexPositions(int from) {
+        for(int i = from; i < tabBarItems.size(); i++) {
+            positions.put(tabBarItems.get(i), i);
+        }
+    }
+
+    private void assignItemId(TabBarItemView tab) {
+        itemContent.remove(itemIds.get(tab));
+        long itemId = nextItemId++;
+        itemIds.put(tab, itemId);
+        itemContent.put(itemId, tab.content.size() > 0 ? tab.content.get(0) : null);
+    }
+
+    private void changeTab(TabBarItemView tab) {
+        changedTabs.add(tab);
+        if (!changesScheduled) {
+            changesScheduled = true;
+            Choreographer.getInstance().postFrameCallback(frameTimeNanos -> notifyChanges());
+        }
+    }
+
+    private void notifyChanges() {
+        changesScheduled = false;
+        int[] changed = new int[changedTabs.size()];
+        int count = 0;
+        for(TabBarItemView tab : changedTabs) {
+            Integer position = positions.get(tab);
+            if (position == null)
+                continue;
+            View content = tab.content.size() > 0 ? tab.content.get(0) : null;
+            if (itemContent.get(itemIds.get(tab)) != content)
+                assignItemId(tab);
+            changed[count++] = position;
+        }
+        changedTabs.clear();
+        Arrays.sort(changed, 0, count);
+        for(int i = 0; i < count;) {
+            int start = i;
+            while (i + 1 < count && changed[i + 1] == changed[i] + 1)
+                i++;
+            notifyItemRangeChanged(changed[start], i - start + 1);
+            i++;
+        }
+    }
+
+    @NonNull
+    @Override
+    public Fragment createFragment(int position) {
+        TabBarItemView tab = tabBarItems.get(position);
+        TabFragment tabFragment = new TabFragment(tab);
+        tabFragment.deferred = pageLimit == 0 && position != selectedTab;
+        tabFragments.put(tab, tabFragment);
+        return tabFragment;
+    }
+
+    @Override
+    public int getItemCount() {
+        return tabBarItems.size();
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return itemIds.get(tabBarItems.get(position));
+    }
+
+    @Override
+    public boolean containsItem(long itemId) {
+        return itemContent.containsKey(itemId);
+    }
+}
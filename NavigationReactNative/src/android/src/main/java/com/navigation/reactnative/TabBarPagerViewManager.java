@@ -4,8 +4,9 @@ import android.view.View;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.core.view.ViewCompat;
+import androidx.viewpager2.widget.ViewPager2;
 
-import com.facebook.react.common.MapBuilder;
 import com.facebook.react.uimanager.ThemedReactContext;
 import com.facebook.react.uimanager.ViewGroupManager;
 import com.facebook.react.uimanager.ViewManagerDelegate;
@@ -17,8 +18,8 @@ import java.util.Map;
 
 import javax.annotation.Nonnull;
 
-public class TabBarPagerViewManager extends ViewGroupManager<TabBarPagerView> implements NVTabBarPagerManagerInterface<TabBarPagerView> {
-    private final ViewManagerDelegate<TabBarPagerView> delegate;
+public class TabBarPagerViewManager extends ViewGroupManager<ViewPager2> implements NVTabBarPagerManagerInterface<ViewPager2> {
+    private final ViewManagerDelegate<ViewPager2> delegate;
 
     public TabBarPagerViewManager() {
         delegate = new NVTabBarPagerManagerDelegate<>(this);
@@ -26,7 +27,7 @@ public class TabBarPagerViewManager extends ViewGroupManager<TabBarPagerView> im
 
     @Nullable
     @Override
-    protected ViewManagerDelegate<TabBarPagerView> getDelegate() {
+    protected ViewManagerDelegate<ViewPager2> getDelegate() {
         return delegate;
     }
 
@@ -38,74 +39,70 @@ public class TabBarPagerViewManager extends ViewGroupManager<TabBarPagerView> im
 
     @Nonnull
     @Override
-    protected TabBarPagerView createViewInstance(@Nonnull ThemedReactContext reactContext) {
-        return new TabBarPagerView(reactContext);
+    protected ViewPager2 createViewInstance(@Nonnull ThemedReactContext reactContext) {
+        return TabBarPager.create(reactContext, ViewCompat.LAYOUT_DIRECTION_LTR);
     }
 
     @ReactProp(name = "selectedTab")
-    public void setSelectedTab(TabBarPagerView view, int selectedTab) {
-        int eventLag = view.nativeEventCount - view.mostRecentEventCount;
-        if (eventLag == 0 && view.getCurrentItem() != selectedTab) {
-            view.selectedTab = selectedTab;
-            if (view.getTabsCount() > selectedTab)
-                view.setCurrentItem(selectedTab, false);
-        }
+    public void setSelectedTab(ViewPager2 view, int selectedTab) {
+        TabBarPager.setSelectedTab(view, selectedTab);
     }
 
     @ReactProp(name = "mostRecentEventCount")
-    public void setMostRecentEventCount(TabBarPagerView view, int mostRecentEventCount) {
-        view.mostRecentEventCount = mostRecentEventCount;
+    public void setMostRecentEventCount(ViewPager2 view, int mostRecentEventCount) {
+        TabBarPager.getAdapter(view).mostRecentEventCount = mostRecentEventCount;
     }
 
     @Override
     @ReactProp(name = "tabCount")
-    public void setTabCount(TabBarPagerView view, int tabCount) {
+    public void setTabCount(ViewPager2 view, int tabCount) {
+    }
+
+    @Override
+    @ReactProp(name = "offscreenPageLimit", defaultInt = -1)
+    public void setOffscreenPageLimit(ViewPager2 view, int offscreenPageLimit) {
+        TabBarPager.setOffscreenPageLimit(view, offscreenPageLimit);
     }
 
     @ReactProp(name = "scrollsToTop")
-    public void setScrollsToTop(TabBarPagerView view, boolean scrollsToTop) {
-        view.scrollsToTop = scrollsToTop;
+    public void setScrollsToTop(ViewPager2 view, boolean scrollsToTop) {
+        TabBarPager.getAdapter(view).scrollsToTop = scrollsToTop;
     }
 
     @Override
-    public int getChildCount(TabBarPagerView parent) {
-        return parent.getTabsCount();
+    public int getChildCount(ViewPager2 parent) {
+        return TabBarPager.getAdapter(parent).getTabsCount();
     }
 
     @Override
-    public View getChildAt(TabBarPagerView parent, int index) {
-        return parent.getTabAt(index);
+    public View getChildAt(ViewPager2 parent, int index) {
+        return TabBarPager.getAdapter(parent).getTabAt(index);
     }
 
     @Override
-    public void addView(TabBarPagerView parent, View child, int index) {
-        ((TabBarItemView) child).changeListener = parent;
-        parent.addTab((TabBarItemView) child, index);
+    public void addView(ViewPager2 parent, View child, int index) {
+        TabBarPager.getAdapter(parent).addTab((TabBarItemView) child, index);
     }
 
     @Override
-    public void removeViewAt(TabBarPagerView parent, int index) {
-        parent.getTabAt(index).changeListener = null;
-        parent.removeTab(index);
+    public void removeViewAt(ViewPager2 parent, int index) {
+        TabBarPager.getAdapter(parent).removeTab(index);
     }
 
     @Override
     public Map<String, Object> getExportedCustomDirectEventTypeConstants() {
-        return MapBuilder.<String, Object>builder()
-            .put("topOnTabSelected", MapBuilder.of("registrationName", "onTabSelected"))
-            .put("topOnTabSwipeStateChanged", MapBuilder.of("registrationName", "onTabSwipeStateChanged"))
-            .build();
+        return TabBarPager.getExportedCustomDirectEventTypeConstants();
     }
 
     @Override
-    protected void onAfterUpdateTransaction(@Nonnull TabBarPagerView view) {
+    protected void onAfterUpdateTransaction(@Nonnull ViewPager2 view) {
         super.onAfterUpdateTransaction(view);
-        view.populateTabs();
+        TabBarPager.populateTabs(view);
     }
 
     @Override
-    public void onDropViewInstance(@NonNull TabBarPagerView view) {
-        view.removeFragment();
+    public void onDropViewInstance(@NonNull ViewPager2 view) {
+        TabBarPager.removeFragment(view);
         super.onDropViewInstance(view);
     }
 }
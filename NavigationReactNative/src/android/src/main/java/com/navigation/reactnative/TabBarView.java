@@ -9,17 +9,18 @@ import android.widget.ScrollView;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.core.util.Pools;
 import androidx.fragment.app.Fragment;
 import androidx.fragment.app.FragmentActivity;
 import androidx.fragment.app.FragmentManager;
 import androidx.fragment.app.FragmentTransaction;
+import androidx.lifecycle.Lifecycle;
 import androidx.viewpager2.widget.ViewPager2;
 
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.ReactContext;
 import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.uimanager.UIManagerHelper;
-import com.facebook.react.uimanager.events.Event;
 import com.facebook.react.uimanager.events.EventDispatcher;
 import com.facebook.react.uimanager.events.RCTEventEmitter;
 
@@ -96,19 +97,41 @@ public class TabBarView extends ViewGroup implements TabBarItemView.ChangeListen
             nativeEventCount++;
             ReactContext reactContext = (ReactContext) getContext();
             EventDispatcher eventDispatcher = UIManagerHelper.getEventDispatcherForReactTag(reactContext, getId());
-            eventDispatcher.dispatchEvent(new TabBarView.TabSelectedEvent(getId(), index, nativeEventCount));
+            eventDispatcher.dispatchEvent(TabBarView.TabSelectedEvent.obtain(getId(), index, nativeEventCount));
             tabFragments.get(index).tabBarItem.pressed();
         }
         selectedTab = selectedIndex = index;
-        selectedTabFragment = tabFragments.get(index);
         TabNavigationView tabNavigation = getTabNavigation();
         if (tabNavigation != null)
             tabNavigation.tabSelected(index);
-        FragmentTransaction transaction = fragmentManager.beginTransaction();
         if (tabFragments.get(index).viewChanged())
             tabFragments.set(index, new TabFragment(tabFragments.get(index).tabBarItem));
-        transaction.replace(getId(), tabFragments.get(index));
-        transaction.commitNowAllowingStateLoss();
+        selectedTabFragment = tabFragments.get(index);
+        FragmentTransaction transaction = fragmentManager.beginTransaction();
+        boolean changed = false;
+        for(Fragment tabFragment : fragmentManager.getFragments()) {
+            if (!tabFragments.contains(tabFragment)) {
+                transaction.remove(tabFragment);
+                changed = true;
+            }
+        }
+        for(TabFragment tabFragment : tabFragments) {
+            if (tabFragment != selectedTabFragment && tabFragment.isAdded() && !tabFragment.isHidden()) {
+                transaction.hide(tabFragment);
+                transaction.setMaxLifecycle(tabFragment, Lifecycle.State.STARTED);
+                changed = true;
+            }
+        }
+        if (!selectedTabFragment.isAdded()) {
+            transaction.add(getId(), selectedTabFragment);
+            changed = true;
+        } else if (selectedTabFragment.isHidden()) {
+            transaction.show(selectedTabFragment);
+            transaction.setMaxLifecycle(selectedTabFragment, Lifecycle.State.RESUMED);
+            changed = true;
+        }
+        if (changed)
+            transaction.commitNowAllowingStateLoss();
     }
 
     void scrollToTop() {
@@ -122,10 +145,8 @@ public class TabBarView extends ViewGroup implements TabBarItemView.ChangeListen
                     ((NavigationBarView) viewGroup.getChildAt(i)).setExpanded(true);
                 if (viewGroup.getChildAt(i) instanceof ScrollView)
                     ((ScrollView) viewGroup.getChildAt(i)).smoothScrollTo(0,0);
-                if (viewGroup.getChildAt(i) instanceof TabBarPagerView)
-                    ((TabBarPagerView) viewGroup.getChildAt(i)).scrollToTop();
                 if (viewGroup.getChildAt(i) instanceof ViewPager2)
-                    TabBarPagerRTLManager.getAdapter((ViewPager2) viewGroup.getChildAt(i)).scrollToTop();
+                    TabBarPager.getAdapter((ViewPager2) viewGroup.getChildAt(i)).scrollToTop();
             }
         }
         if (tabBarItem instanceof ScrollView)
@@ -150,7 +171,7 @@ public class TabBarView extends ViewGroup implements TabBarItemView.ChangeListen
 
     @Override
     public void onChange(TabBarItemView tabBarItemView) {
-        TabFragment tabFragment = (TabFragment) fragmentManager.findFragmentById(getId());
+        TabFragment tabFragment = selectedTabFragment;
         if (tabFragment != null && tabFragment.tabBarItem == tabBarItemView && tabFragment.viewChanged())
             setCurrentTab(selectedTab);
     }
@@ -174,14 +195,19 @@ public class TabBarView extends ViewGroup implements TabBarItemView.ChangeListen
         }
     }
 
-    static class TabSelectedEvent extends Event<TabBarView.TabSelectedEvent> {
-        private final int tab;
-        private final int eventCount;
+    static class TabSelectedEvent extends PooledEvent<TabBarView.TabSelectedEvent> {
+        private int tab;
+        private int eventCount;
+        private static final Pools.SynchronizedPool<TabSelectedEvent> pool = new Pools.SynchronizedPool<>(3);
+
+        private TabSelectedEvent() {
+        }
 
-        public TabSelectedEvent(int viewId, int tab, int eventCount) {
-            super(viewId);
-            this.tab = tab;
-            this.eventCount = eventCount;
+        static TabSelectedEvent obtain(int viewId, int tab, int eventCount) {
+            TabSelectedEvent event = acquire(pool, TabSelectedEvent::new, viewId);
+            event.tab = tab;
+            event.eventCount = eventCount;
+            return event;
         }
 
         @Override
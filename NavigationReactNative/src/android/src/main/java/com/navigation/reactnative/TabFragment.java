@@ -4,6 +4,7 @@ import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
+import android.widget.FrameLayout;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -12,6 +13,8 @@ import androidx.fragment.app.Fragment;
 public class TabFragment extends Fragment {
     TabBarItemView tabBarItem;
     View view;
+    boolean deferred = false;
+    private FrameLayout placeholder;
 
     public TabFragment() {
         super();
@@ -26,11 +29,31 @@ public class TabFragment extends Fragment {
     @Nullable
     @Override
     public View onCreateView(@NonNull LayoutInflater inflater, @Nullable ViewGroup container, @Nullable Bundle savedInstanceState) {
-        return view != null ? view : new View(getContext());
+        if (view == null)
+            return new View(getContext());
+        if (view.getParent() instanceof ViewGroup)
+            ((ViewGroup) view.getParent()).removeView(view);
+        if (!deferred)
+            return view;
+        placeholder = new FrameLayout(requireContext());
+        return placeholder;
+    }
+
+    @Override
+    public void onDestroyView() {
+        super.onDestroyView();
+        if (placeholder != null)
+            placeholder.removeAllViews();
+        placeholder = null;
+    }
+
+    void materialize() {
+        deferred = false;
+        if (placeholder != null && view != null && view.getParent() == null)
+            placeholder.addView(view);
     }
 
     boolean viewChanged() {
         return tabBarItem.content.size() > 0 && view != tabBarItem.content.get(0);
     }
 }
-
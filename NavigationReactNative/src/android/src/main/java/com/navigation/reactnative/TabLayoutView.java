@@ -7,14 +7,15 @@ import android.view.Gravity;
 import android.view.View;
 import android.view.ViewGroup;
 
-import androidx.annotation.Nullable;
 import androidx.core.view.ViewCompat;
-import androidx.viewpager.widget.ViewPager;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.viewpager2.widget.ViewPager2;
 
 import com.google.android.material.appbar.AppBarLayout;
 import com.google.android.material.appbar.CollapsingToolbarLayout;
 import com.google.android.material.badge.BadgeDrawable;
 import com.google.android.material.tabs.TabLayout;
+import com.google.android.material.tabs.TabLayoutMediator;
 
 public class TabLayoutView extends TabLayout implements TabView {
     boolean bottomTabs;
@@ -22,13 +23,18 @@ public class TabLayoutView extends TabLayout implements TabView {
     int selectedTintColor;
     int unselectedTintColor;
     int defaultRippleColor;
-    private boolean layoutRequested = false;
-    private boolean measured = false;
-    private OnTabSelectedListener tabSelectedListener;
+    private final TabBadgeQueue badgeQueue = new TabBadgeQueue(this);
+    private TabLayoutMediator mediator;
+    private ViewPager2 tabBarPager;
+    private TabBarPagerAdapter tabBarPagerAdapter;
 
     public TabLayoutView(Context context) {
+        this(context, ViewCompat.LAYOUT_DIRECTION_LTR);
+    }
+
+    TabLayoutView(Context context, int layoutDirection) {
         super(context);
-        ViewCompat.setLayoutDirection(this, ViewCompat.LAYOUT_DIRECTION_LTR);
+        ViewCompat.setLayoutDirection(this, layoutDirection);
         AppBarLayout.LayoutParams params = new AppBarLayout.LayoutParams(AppBarLayout.LayoutParams.MATCH_PARENT, AppBarLayout.LayoutParams.WRAP_CONTENT);
         params.setScrollFlags(0);
         setLayoutParams(params);
@@ -36,6 +42,21 @@ public class TabLayoutView extends TabLayout implements TabView {
             selectedTintColor = unselectedTintColor = defaultTextColor = getTabTextColors().getDefaultColor();
         setSelectedTabIndicatorColor(defaultTextColor);
         defaultRippleColor = getTabRippleColor() != null ? getTabRippleColor().getColorForState(new int[]{ android.R.attr.state_pressed }, Color.WHITE) : Color.WHITE;
+        addOnTabSelectedListener(new OnTabSelectedListener() {
+            @Override
+            public void onTabSelected(Tab tab) {
+            }
+
+            @Override
+            public void onTabUnselected(Tab tab) {
+            }
+
+            @Override
+            public void onTabReselected(Tab tab) {
+                if (tabBarPager != null && tabBarPager.getAdapter() != null)
+                    TabBarPager.getAdapter(tabBarPager).scrollToTop();
+            }
+        });
     }
 
     public void setScrollable(boolean scrollable) {
@@ -54,51 +75,87 @@ public class TabLayoutView extends TabLayout implements TabView {
     protected void onAttachedToWindow() {
         super.onAttachedToWindow();
         this.setVisibility(this.getTabCount() > 0 ? View.VISIBLE : View.INVISIBLE);
-        TabBarPagerView tabBar = getTabBar();
-        if (bottomTabs && tabBar != null) {
-            setupWithViewPager(tabBar);
-            tabBar.populateTabs();
+        if (!bindTabBar())
+            post(this::bindTabBar);
+    }
+
+    private boolean bindTabBar() {
+        ViewPager2 tabBarPager = getTabBar();
+        if (tabBarPager == null || tabBarPager.getAdapter() == null)
+            return false;
+        setupWithViewPager(tabBarPager);
+        return true;
+    }
+
+    void setupWithViewPager(final ViewPager2 tabBarPager) {
+        if (mediator != null && this.tabBarPager == tabBarPager)
+            return;
+        this.tabBarPager = tabBarPager;
+        setVisibility(View.VISIBLE);
+        if (mediator != null) {
+            mediator.detach();
+            tabBarPagerAdapter.unregisterAdapterDataObserver(tabsObserver);
         }
+        tabBarPagerAdapter = TabBarPager.getAdapter(tabBarPager);
+        mediator = new TabLayoutMediator(this, tabBarPager, false,
+            (tab, position) -> tabBarPagerAdapter.getTabAt(position).setTab(this, tab, position)
+        );
+        mediator.attach();
+        tabBarPagerAdapter.registerAdapterDataObserver(tabsObserver);
     }
 
-    private TabBarPagerView getTabBar() {
-        for(int i = 0; getParent() != null && i < ((ViewGroup) getParent()).getChildCount(); i++) {
-            View child = ((ViewGroup) getParent()).getChildAt(i);
-            if (child instanceof TabBarPagerView)
-                return (TabBarPagerView) child;
+    private void bindTabs(int from, int to) {
+        for(int i = from; i < to && i < getTabCount() && i < tabBarPagerAdapter.getTabsCount(); i++) {
+            tabBarPagerAdapter.getTabAt(i).setTab(this, getTabAt(i), i);
         }
-        return null;
     }
 
-    @Override
-    public void setupWithViewPager(@Nullable final ViewPager viewPager) {
-        super.setupWithViewPager(viewPager);
-        setVisibility(View.VISIBLE);
-        if (tabSelectedListener != null)
-            removeOnTabSelectedListener(tabSelectedListener);
-        tabSelectedListener = new OnTabSelectedListener() {
-            @Override
-            public void onTabSelected(Tab tab) {
-            }
+    private final RecyclerView.AdapterDataObserver tabsObserver = new RecyclerView.AdapterDataObserver() {
+        @Override
+        public void onChanged() {
+            mediator.detach();
+            mediator.attach();
+        }
 
-            @Override
-            public void onTabUnselected(Tab tab) {
+        @Override
+        public void onItemRangeChanged(int positionStart, int itemCount) {
+            bindTabs(positionStart, positionStart + itemCount);
+        }
+
+        @Override
+        public void onItemRangeInserted(int positionStart, int itemCount) {
+            for(int i = positionStart; i < positionStart + itemCount; i++) {
+                addTab(newTab(), i, false);
             }
+            bindTabs(positionStart, getTabCount());
+        }
 
-            @Override
-            public void onTabReselected(Tab tab) {
-                if (viewPager != null)
-                    ((TabBarPagerView) viewPager).scrollToTop();
+        @Override
+        public void onItemRangeRemoved(int positionStart, int itemCount) {
+            for(int i = 0; i < itemCount && positionStart < getTabCount(); i++) {
+                removeTabAt(positionStart);
             }
-        };
-        addOnTabSelectedListener(tabSelectedListener);
-        if (!measured) {
-            measure(
-                MeasureSpec.makeMeasureSpec(getWidth(), MeasureSpec.EXACTLY),
-                MeasureSpec.makeMeasureSpec(getHeight(), MeasureSpec.EXACTLY));
-            layout(getLeft(), getTop(), getRight(), getBottom());
-            measured = true;
+            bindTabs(positionStart, getTabCount());
+        }
+
+        @Override
+        public void onItemRangeMoved(int fromPosition, int toPosition, int itemCount) {
+            onChanged();
+        }
+    };
+
+    private ViewPager2 getTabBar() {
+        ViewGroup parent = (ViewGroup) getParent();
+        if (parent instanceof CoordinatorLayoutView)
+            return null;
+        if (parent instanceof NavigationBarView)
+            parent = (ViewGroup) parent.getParent();
+        for(int i = 0; parent != null && i < parent.getChildCount(); i++) {
+            View child = parent.getChildAt(i);
+            if (child instanceof ViewPager2)
+                return (ViewPager2) child;
         }
+        return null;
     }
 
     @Override
@@ -119,20 +176,9 @@ public class TabLayoutView extends TabLayout implements TabView {
     @Override
     public void requestLayout() {
         super.requestLayout();
-        if (!layoutRequested) {
-            layoutRequested = true;
-            post(measureAndLayout);
-        }
+        LayoutScheduler.requestLayout(this);
     }
 
-    private final Runnable measureAndLayout = () -> {
-        layoutRequested = false;
-        measure(
-            MeasureSpec.makeMeasureSpec(getWidth(), MeasureSpec.EXACTLY),
-            MeasureSpec.makeMeasureSpec(getHeight(), MeasureSpec.EXACTLY));
-        layout(getLeft(), getTop(), getRight(), getBottom());
-    };
-
     @Override
     public void setTitle(int index, CharSequence title) {
         TabLayout.Tab tab = getTabAt(index);
@@ -165,4 +211,9 @@ public class TabLayoutView extends TabLayout implements TabView {
         if (tab != null)
             tab.removeBadge();
     }
+
+    @Override
+    public TabBadgeQueue getBadgeQueue() {
+        return badgeQueue;
+    }
 }
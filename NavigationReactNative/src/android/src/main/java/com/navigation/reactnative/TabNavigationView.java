@@ -1,5 +1,6 @@
 package com.navigation.reactnative;
 
+import android.annotation.SuppressLint;
 import android.content.Context;
 import android.graphics.Color;
 import android.graphics.drawable.Drawable;
@@ -7,22 +8,33 @@ import android.view.Menu;
 import android.view.View;
 import android.view.ViewGroup;
 
+import androidx.appcompat.view.menu.MenuBuilder;
 import androidx.core.view.ViewCompat;
 
 import com.facebook.react.modules.i18nmanager.I18nUtil;
 import com.google.android.material.badge.BadgeDrawable;
 import com.google.android.material.bottomnavigation.BottomNavigationItemView;
+import com.google.android.material.bottomnavigation.BottomNavigationMenuView;
 import com.google.android.material.bottomnavigation.BottomNavigationView;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
 public class TabNavigationView extends BottomNavigationView implements TabView {
+    private static final int ORDER_SPACING = 0x1000;
     boolean bottomTabs;
     final int defaultTextColor;
     int selectedTintColor;
     int unselectedTintColor;
     int defaultActiveIndicatorColor;
     int defaultRippleColor;
-    private boolean layoutRequested = false;
+    private final TabBadgeQueue badgeQueue = new TabBadgeQueue(this);
     private boolean autoSelected = false;
+    private final List<TabBarItemView> menuTabs = new ArrayList<>();
+    private final List<BottomNavigationItemView> itemViews = new ArrayList<>();
+    private final HashMap<TabBarItemView, Integer> itemIds = new HashMap<>();
+    private int nextItemId = 0;
 
     public TabNavigationView(Context context) {
         super(context);
@@ -34,24 +46,110 @@ public class TabNavigationView extends BottomNavigationView implements TabView {
         defaultRippleColor = getItemRippleColor() != null ? getItemRippleColor().getColorForState(new int[]{ android.R.attr.state_pressed }, Color.WHITE) : Color.WHITE;
         setOnItemSelectedListener(menuItem -> {
             TabBarView tabBar = getTabBar();
-            if (!autoSelected && tabBar != null && tabBar.selectedTab == menuItem.getOrder())
+            int index = getTabIndex(menuItem.getItemId());
+            if (!autoSelected && tabBar != null && tabBar.selectedTab == index)
                 tabBar.scrollToTop();
-            if (tabBar != null && tabBar.selectedTab != menuItem.getOrder())
-                tabBar.setCurrentTab(menuItem.getOrder());
+            if (tabBar != null && index != -1 && tabBar.selectedTab != index)
+                tabBar.setCurrentTab(index);
             return true;
         });
     }
 
+    @SuppressLint("RestrictedApi")
     void setTitles() {
-        int selectedIndex = getSelectedItemId();
-        getMenu().clear();
         TabBarView tabBar = getTabBar();
+        List<TabBarItemView> tabs = new ArrayList<>();
         for (int i = 0; tabBar != null && i < tabBar.tabFragments.size(); i++) {
-            getMenu().add(Menu.NONE, i, i, getTabBar().tabFragments.get(i).tabBarItem.styledTitle);
+            tabs.add(tabBar.tabFragments.get(i).tabBarItem);
         }
-        autoSelected = true;
-        setSelectedItemId(selectedIndex);
-        autoSelected = false;
+        if (tabs.equals(menuTabs))
+            return;
+        int selectedItemId = getSelectedItemId();
+        MenuBuilder menu = (MenuBuilder) getMenu();
+        menu.stopDispatchingItemsChanged();
+        for (int i = menuTabs.size() - 1; i >= 0; i--) {
+            TabBarItemView tab = menuTabs.get(i);
+            if (!tabs.contains(tab)) {
+                menu.removeItem(itemIds.remove(tab));
+                menuTabs.remove(i);
+            }
+        }
+        if (!insertTabs(menu, tabs))
+            rebuildTabs(menu, tabs);
+        menu.startDispatchingItemsChanged();
+        itemViews.clear();
+        int selectedIndex = getTabIndex(selectedItemId);
+        if (selectedIndex != -1)
+            tabSelected(selectedIndex);
+    }
+
+    private boolean insertTabs(Menu menu, List<TabBarItemView> tabs) {
+        int menuIndex = 0;
+        for (int i = 0; i < tabs.size(); i++) {
+            TabBarItemView tab = tabs.get(i);
+            if (menuIndex < menuTabs.size() && menuTabs.get(menuIndex) == tab) {
+                menuIndex++;
+                continue;
+            }
+            if (itemIds.containsKey(tab))
+                return false;
+            int prevOrder = menuIndex > 0 ? menu.findItem(itemIds.get(menuTabs.get(menuIndex - 1))).getOrder() : 0;
+            int order = prevOrder + ORDER_SPACING;
+            if (menuIndex < menuTabs.size()) {
+                int nextOrder = menu.findItem(itemIds.get(menuTabs.get(menuIndex))).getOrder();
+                order = (prevOrder + nextOrder) / 2;
+                if (order == prevOrder)
+                    return false;
+            }
+            if (order > Menu.USER_MASK)
+                return false;
+            int itemId = nextItemId++;
+            itemIds.put(tab, itemId);
+            menu.add(Menu.NONE, itemId, order, tab.styledTitle);
+            menuTabs.add(menuIndex++, tab);
+        }
+        return true;
+    }
+
+    private void rebuildTabs(Menu menu, List<TabBarItemView> tabs) {
+        menu.clear();
+        menuTabs.clear();
+        for (int i = 0; i < tabs.size(); i++) {
+            TabBarItemView tab = tabs.get(i);
+            Integer itemId = itemIds.get(tab);
+            if (itemId == null) {
+                itemId = nextItemId++;
+                itemIds.put(tab, itemId);
+            }
+            menu.add(Menu.NONE, itemId, (i + 1) * ORDER_SPACING, tab.styledTitle);
+            menuTabs.add(tab);
+        }
+        itemIds.keySet().retainAll(menuTabs);
+    }
+
+    private BottomNavigationItemView getItemView(int index) {
+        if (itemViews.size() != getMenu().size()) {
+            itemViews.clear();
+            for (int i = 0; i < getChildCount(); i++) {
+                if (getChildAt(i) instanceof BottomNavigationMenuView) {
+                    BottomNavigationMenuView menuView = (BottomNavigationMenuView) getChildAt(i);
+                    for (int j = 0; j < menuView.getChildCount(); j++) {
+                        if (menuView.getChildAt(j) instanceof BottomNavigationItemView)
+                            itemViews.add((BottomNavigationItemView) menuView.getChildAt(j));
+                    }
+                }
+            }
+        }
+        return index < itemViews.size() ? itemViews.get(index) : null;
+    }
+
+    private int getTabIndex(int itemId) {
+        for (int i = 0; i < menuTabs.size(); i++) {
+            Integer tabItemId = itemIds.get(menuTabs.get(i));
+            if (tabItemId != null && tabItemId == itemId)
+                return i;
+        }
+        return -1;
     }
 
     @Override
@@ -59,9 +157,7 @@ public class TabNavigationView extends BottomNavigationView implements TabView {
         super.onAttachedToWindow();
         TabBarView tabBar = getTabBar();
         if (bottomTabs && tabBar != null) {
-            autoSelected = true;
-            setSelectedItemId(tabBar.selectedTab);
-            autoSelected = false;
+            tabSelected(tabBar.selectedTab);
             tabBar.populateTabs();
         }
     }
@@ -76,28 +172,19 @@ public class TabNavigationView extends BottomNavigationView implements TabView {
     }
 
     void tabSelected(int index) {
+        if (index >= getMenu().size())
+            return;
         autoSelected = true;
-        setSelectedItemId(index);
+        setSelectedItemId(getMenu().getItem(index).getItemId());
         autoSelected = false;
     }
 
     @Override
     public void requestLayout() {
         super.requestLayout();
-        if (!layoutRequested) {
-            layoutRequested = true;
-            post(measureAndLayout);
-        }
+        LayoutScheduler.requestLayout(this);
     }
 
-    private final Runnable measureAndLayout = () -> {
-        layoutRequested = false;
-        measure(
-            MeasureSpec.makeMeasureSpec(getWidth(), MeasureSpec.EXACTLY),
-            MeasureSpec.makeMeasureSpec(getHeight(), MeasureSpec.EXACTLY));
-        layout(getLeft(), getTop(), getRight(), getBottom());
-    };
-
     @Override
     public void setTitle(int index, CharSequence title) {
         getMenu().getItem(index).setTitle(title);
@@ -109,23 +196,28 @@ public class TabNavigationView extends BottomNavigationView implements TabView {
 
     @Override
     public void setTestID(int index, String testID) {
-        if (getTouchables().size() > index) {
-            BottomNavigationItemView itemView = (BottomNavigationItemView) getTouchables().get(index);
+        BottomNavigationItemView itemView = getItemView(index);
+        if (itemView != null)
             itemView.setTag(testID);
-        }
     }
 
     @Override
     public BadgeDrawable getBadgeIcon(int index) {
-        return getOrCreateBadge(index);
+        return index < getMenu().size() ? getOrCreateBadge(getMenu().getItem(index).getItemId()) : null;
     }
 
     @Override
     public void removeBadgeIcon(int index) {
-        removeBadge(index);
-        if (getTouchables().size() > index) {
-            BottomNavigationItemView itemView = (BottomNavigationItemView) getTouchables().get(index);
+        if (index >= getMenu().size())
+            return;
+        removeBadge(getMenu().getItem(index).getItemId());
+        BottomNavigationItemView itemView = getItemView(index);
+        if (itemView != null)
             itemView.getChildAt(0).getOverlay().clear();
-        }
+    }
+
+    @Override
+    public TabBadgeQueue getBadgeQueue() {
+        return badgeQueue;
     }
 }
@@ -14,4 +14,6 @@ public interface TabView {
     BadgeDrawable getBadgeIcon(int index);
 
     void removeBadgeIcon(int index);
+
+    TabBadgeQueue getBadgeQueue();
 }
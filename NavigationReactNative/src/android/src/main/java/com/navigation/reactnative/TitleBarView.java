@@ -15,7 +15,6 @@ import com.facebook.react.uimanager.PixelUtil;
 import com.facebook.react.uimanager.UIManagerModule;
 
 public class TitleBarView extends ViewGroup implements FabricViewStateManager.HasFabricViewStateManager {
-    private boolean layoutRequested = false;
     private final FabricViewStateManager fabricViewStateManager = new FabricViewStateManager();
 
     public TitleBarView(Context context) {
@@ -80,23 +79,9 @@ public class TitleBarView extends ViewGroup implements FabricViewStateManager.Ha
     @Override
     public void requestLayout() {
         super.requestLayout();
-        if (!layoutRequested) {
-            layoutRequested = true;
-            post(measureAndLayout);
-        }
+        LayoutScheduler.requestLayout(this);
     }
 
-    private final Runnable measureAndLayout = new Runnable() {
-        @Override
-        public void run() {
-            layoutRequested = false;
-            measure(
-                MeasureSpec.makeMeasureSpec(getWidth(), MeasureSpec.EXACTLY),
-                MeasureSpec.makeMeasureSpec(getHeight(), MeasureSpec.EXACTLY));
-            layout(getLeft(), getTop(), getRight(), getBottom());
-        }
-    };
-
     @Override
     public FabricViewStateManager getFabricViewStateManager() {
         return fabricViewStateManager;
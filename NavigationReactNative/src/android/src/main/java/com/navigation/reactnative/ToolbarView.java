@@ -6,10 +6,6 @@ import android.content.res.TypedArray;
 import android.graphics.Color;
 import android.graphics.PorterDuff;
 import android.graphics.drawable.Drawable;
-import android.text.SpannableString;
-import android.text.style.AbsoluteSizeSpan;
-import android.text.style.StyleSpan;
-import android.text.style.TypefaceSpan;
 import android.view.Menu;
 import android.view.MenuItem;
 import android.view.View;
@@ -21,14 +17,13 @@ import androidx.appcompat.view.menu.MenuView;
 import androidx.appcompat.widget.ActionMenuView;
 import androidx.appcompat.widget.AppCompatImageButton;
 import androidx.appcompat.widget.AppCompatImageView;
+import androidx.core.util.Pools;
 
 import com.facebook.react.bridge.ReactContext;
 import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.uimanager.UIManagerHelper;
-import com.facebook.react.uimanager.events.Event;
 import com.facebook.react.uimanager.events.EventDispatcher;
 import com.facebook.react.uimanager.events.RCTEventEmitter;
-import com.facebook.react.views.text.ReactTypefaceUtils;
 import com.google.android.material.appbar.AppBarLayout;
 import com.google.android.material.appbar.MaterialToolbar;
 
@@ -54,7 +49,6 @@ public class ToolbarView extends MaterialToolbar implements ActionView {
     private final IconResolver.IconResolverListener logoResolverListener;
     private final IconResolver.IconResolverListener navIconResolverListener;
     private final IconResolver.IconResolverListener overflowIconResolverListener;
-    private boolean layoutRequested = false;
     final ArrayList<View> children = new ArrayList<>();
 
     public ToolbarView(Context context) {
@@ -78,7 +72,7 @@ public class ToolbarView extends MaterialToolbar implements ActionView {
         setNavigationOnClickListener(view -> {
             ReactContext reactContext = (ReactContext) getContext();
             EventDispatcher eventDispatcher = UIManagerHelper.getEventDispatcherForReactTag(reactContext, getId());
-            eventDispatcher.dispatchEvent(new NavigationPressEvent(getId()));
+            eventDispatcher.dispatchEvent(NavigationPressEvent.obtain(getId()));
         });
         setOnMenuItemClickListener(item -> {
             for (int i = 0; i < children.size(); i++) {
@@ -260,19 +254,7 @@ public class ToolbarView extends MaterialToolbar implements ActionView {
 
     void styleTitle() {
         if (titleChanged) {
-            SpannableString titleSpannable = null;
-            if (title != null) {
-                titleSpannable = new SpannableString(title);
-                if (titleFontFamily != null)
-                    titleSpannable.setSpan(new TypefaceSpan(titleFontFamily), 0, title.length(), 0);
-                if (titleFontWeight != null)
-                    titleSpannable.setSpan(new StyleSpan(ReactTypefaceUtils.parseFontWeight(titleFontWeight)), 0, title.length(), 0);
-                if (titleFontStyle != null)
-                    titleSpannable.setSpan(new StyleSpan(ReactTypefaceUtils.parseFontStyle(titleFontStyle)), 0, title.length(), 0);
-                if (titleFontSize != null)
-                    titleSpannable.setSpan(new AbsoluteSizeSpan(titleFontSize, true), 0, title.length(), 0);
-            }
-            setTitle(titleSpannable);
+            setTitle(StyledText.get(getContext(), title, titleFontFamily, titleFontWeight, titleFontStyle, titleFontSize));
             titleChanged = false;
         }
     }
@@ -301,23 +283,17 @@ public class ToolbarView extends MaterialToolbar implements ActionView {
     @Override
     public void requestLayout() {
         super.requestLayout();
-        if (!layoutRequested) {
-            layoutRequested = true;
-            post(measureAndLayout);
-        }
+        LayoutScheduler.requestLayout(this);
     }
 
-    private final Runnable measureAndLayout = () -> {
-        layoutRequested = false;
-        measure(
-            MeasureSpec.makeMeasureSpec(getWidth(), MeasureSpec.EXACTLY),
-            MeasureSpec.makeMeasureSpec(getHeight(), MeasureSpec.EXACTLY));
-        layout(getLeft(), getTop(), getRight(), getBottom());
-    };
-
-    static class NavigationPressEvent extends Event<ToolbarView.NavigationPressEvent> {
-        public NavigationPressEvent(int viewId) {
-            super(viewId);
+    static class NavigationPressEvent extends PooledEvent<ToolbarView.NavigationPressEvent> {
+        private static final Pools.SynchronizedPool<NavigationPressEvent> pool = new Pools.SynchronizedPool<>(3);
+
+        private NavigationPressEvent() {
+        }
+
+        static NavigationPressEvent obtain(int viewId) {
+            return acquire(pool, NavigationPressEvent::new, viewId);
         }
 
         @Override
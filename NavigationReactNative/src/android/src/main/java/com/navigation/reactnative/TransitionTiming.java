@@ -0,0 +1,60 @@
+package com.navigation.reactnative;
+
+import android.os.SystemClock;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+
+class TransitionTiming {
+    static final String[] PHASES = new String[] {"commit", "createView", "firstDraw", "rest", "postpone", "layerRebuilds"};
+    static final int COMMIT = 0;
+    static final int CREATE_VIEW = 1;
+    static final int FIRST_DRAW = 2;
+    static final int REST = 3;
+    static final int POSTPONE = 4;
+    static final int LAYER_REBUILDS = 5;
+    final String stateKey;
+    final int crumb;
+    private final long start;
+    private long postponeStart = -1;
+    final long[] phases = new long[] {-1, -1, -1, -1, -1, -1};
+
+    TransitionTiming(String stateKey, int crumb, long start) {
+        this.stateKey = stateKey;
+        this.crumb = crumb;
+        this.start = start;
+    }
+
+    static long now() {
+        return SystemClock.uptimeMillis();
+    }
+
+    void mark(int phase) {
+        if (phases[phase] == -1)
+            phases[phase] = now() - start;
+    }
+
+    void set(int phase, long value) {
+        phases[phase] = value;
+    }
+
+    void postpone() {
+        postponeStart = now();
+    }
+
+    void resume() {
+        if (postponeStart != -1 && phases[POSTPONE] == -1)
+            phases[POSTPONE] = now() - postponeStart;
+    }
+
+    WritableMap toMap() {
+        WritableMap map = Arguments.createMap();
+        map.putString("stateKey", stateKey);
+        map.putInt("crumb", crumb);
+        for(int i = 0; i < PHASES.length; i++) {
+            if (phases[i] != -1)
+                map.putDouble(PHASES[i], phases[i]);
+        }
+        return map;
+    }
+}
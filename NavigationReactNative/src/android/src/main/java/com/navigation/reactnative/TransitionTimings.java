@@ -0,0 +1,74 @@
+package com.navigation.reactnative;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+class TransitionTimings {
+    private static final int SAMPLE_SIZE = 128;
+    private static final HashMap<String, Samples[]> timings = new HashMap<>();
+
+    static synchronized void record(TransitionTiming timing) {
+        if (timing.stateKey == null)
+            return;
+        Samples[] samples = timings.get(timing.stateKey);
+        if (samples == null) {
+            samples = new Samples[TransitionTiming.PHASES.length];
+            for(int i = 0; i < samples.length; i++) {
+                samples[i] = new Samples();
+            }
+            timings.put(timing.stateKey, samples);
+        }
+        for(int i = 0; i < samples.length; i++) {
+            if (timing.phases[i] != -1)
+                samples[i].add(timing.phases[i]);
+        }
+    }
+
+    static synchronized WritableMap getHistograms() {
+        WritableMap histograms = Arguments.createMap();
+        for(Map.Entry<String, Samples[]> entry : timings.entrySet()) {
+            WritableMap phases = Arguments.createMap();
+            for(int i = 0; i < entry.getValue().length; i++) {
+                Samples samples = entry.getValue()[i];
+                if (samples.count > 0)
+                    phases.putMap(TransitionTiming.PHASES[i], samples.getHistogram());
+            }
+            histograms.putMap(entry.getKey(), phases);
+        }
+        return histograms;
+    }
+
+    static synchronized void reset() {
+        timings.clear();
+    }
+
+    private static class Samples {
+        private final long[] values = new long[SAMPLE_SIZE];
+        private int count = 0;
+
+        void add(long value) {
+            values[count % SAMPLE_SIZE] = value;
+            count++;
+        }
+
+        WritableMap getHistogram() {
+            long[] sorted = Arrays.copyOf(values, Math.min(count, SAMPLE_SIZE));
+            Arrays.sort(sorted);
+            WritableMap histogram = Arguments.createMap();
+            histogram.putInt("count", count);
+            histogram.putDouble("p50", percentile(sorted, 50));
+            histogram.putDouble("p95", percentile(sorted, 95));
+            histogram.putDouble("p99", percentile(sorted, 99));
+            return histogram;
+        }
+
+        private static long percentile(long[] sorted, int percentile) {
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+            return sorted[Math.max(rank - 1, 0)];
+        }
+    }
+}
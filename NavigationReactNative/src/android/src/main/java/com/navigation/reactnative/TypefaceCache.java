@@ -0,0 +1,109 @@
+package com.navigation.reactnative;
+
+import android.content.Context;
+import android.content.res.AssetManager;
+import android.graphics.Typeface;
+import android.util.LruCache;
+
+import androidx.core.util.ObjectsCompat;
+
+import com.facebook.react.bridge.UiThreadUtil;
+import com.facebook.react.views.text.ReactTypefaceUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+public class TypefaceCache {
+    private static final LruCache<Key, Typeface> typefaces = new LruCache<>(32);
+    private static final HashMap<Key, ArrayList<Listener>> pendingTypefaces = new HashMap<>();
+    private static final Executor executor = new ThreadPoolExecutor(0, 1, 5, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+
+    interface Listener {
+        void onTypeface(Typeface typeface);
+    }
+
+    public static void preload(Context context, final String fontFamily) {
+        final AssetManager assets = context.getApplicationContext().getAssets();
+        UiThreadUtil.runOnUiThread(() -> {
+            Key key = new Key(fontFamily, null, null);
+            if (typefaces.get(key) == null)
+                load(assets, key, null);
+        });
+    }
+
+    static Typeface get(Context context, String fontFamily) {
+        Key key = new Key(fontFamily, null, null);
+        Typeface typeface = typefaces.get(key);
+        if (typeface == null) {
+            typeface = ReactTypefaceUtils.applyStyles(null, ReactTypefaceUtils.parseFontStyle(null), ReactTypefaceUtils.parseFontWeight(null), fontFamily, context.getApplicationContext().getAssets());
+            typefaces.put(key, typeface);
+        }
+        return typeface;
+    }
+
+    static void get(Context context, Typeface base, String fontFamily, String fontWeight, String fontStyle, Listener listener) {
+        if (fontFamily == null) {
+            listener.onTypeface(ReactTypefaceUtils.applyStyles(base, ReactTypefaceUtils.parseFontStyle(fontStyle), ReactTypefaceUtils.parseFontWeight(fontWeight), null, context.getAssets()));
+            return;
+        }
+        Key key = new Key(fontFamily, fontWeight, fontStyle);
+        Typeface typeface = typefaces.get(key);
+        if (typeface != null) {
+            listener.onTypeface(typeface);
+            return;
+        }
+        load(context.getApplicationContext().getAssets(), key, listener);
+    }
+
+    private static void load(final AssetManager assets, final Key key, Listener listener) {
+        ArrayList<Listener> listeners = pendingTypefaces.get(key);
+        if (listeners == null) {
+            listeners = new ArrayList<>();
+            pendingTypefaces.put(key, listeners);
+            executor.execute(() -> {
+                final Typeface typeface = ReactTypefaceUtils.applyStyles(null, ReactTypefaceUtils.parseFontStyle(key.fontStyle), ReactTypefaceUtils.parseFontWeight(key.fontWeight), key.fontFamily, assets);
+                UiThreadUtil.runOnUiThread(() -> {
+                    typefaces.put(key, typeface);
+                    ArrayList<Listener> pending = pendingTypefaces.remove(key);
+                    for (int i = 0; pending != null && i < pending.size(); i++) {
+                        pending.get(i).onTypeface(typeface);
+                    }
+                });
+            });
+        }
+        if (listener != null)
+            listeners.add(listener);
+    }
+
+    private static class Key {
+        private final String fontFamily;
+        private final String fontWeight;
+        private final String fontStyle;
+
+        Key(String fontFamily, String fontWeight, String fontStyle) {
+            this.fontFamily = fontFamily;
+            this.fontWeight = fontWeight;
+            this.fontStyle = fontStyle;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key))
+                return false;
+            Key key = (Key) o;
+            return fontFamily.equals(key.fontFamily) && ObjectsCompat.equals(fontWeight, key.fontWeight)
+                && ObjectsCompat.equals(fontStyle, key.fontStyle);
+        }
+
+        @Override
+        public int hashCode() {
+            return ObjectsCompat.hash(fontFamily, fontWeight, fontStyle);
+        }
+    }
+}
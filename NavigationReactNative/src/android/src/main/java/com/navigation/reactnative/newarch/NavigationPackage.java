@@ -57,6 +57,8 @@ public class NavigationPackage extends TurboReactPackage implements ReactPackage
     public NativeModule getModule(String name, ReactApplicationContext reactContext) {
         if (name.equals("Material3")) {
             return new Material3Module(reactContext);
+        } else if (name.equals("NavigationTiming")) {
+            return new NavigationTimingModule(reactContext);
         } else {
             return null;
         }
@@ -77,6 +79,17 @@ public class NavigationPackage extends TurboReactPackage implements ReactPackage
                     false,
                     true
             ));
+            moduleInfos.put(
+                "NavigationTiming",
+                new ReactModuleInfo(
+                    "NavigationTiming",
+                    "NavigationTiming",
+                    false,
+                    false,
+                    false,
+                    false,
+                    true
+            ));
             return moduleInfos;
         };
     }
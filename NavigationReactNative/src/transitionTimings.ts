@@ -0,0 +1,39 @@
+import { NativeModules, Platform } from 'react-native';
+
+var getNavigationTiming = () => (
+    global.__turboModuleProxy != null ? require('./NativeNavigationTimingModule').default : NativeModules.NavigationTiming
+);
+
+var getTransitionTimings = (): Promise<any> => (
+    Platform.OS === 'android' ? getNavigationTiming().getTimings() : Promise.resolve({})
+);
+
+var resetTransitionTimings = () => {
+    if (Platform.OS === 'android')
+        getNavigationTiming().resetTimings();
+};
+
+var getLayoutPasses = (): Promise<any> => (
+    Platform.OS === 'android' ? getNavigationTiming().getLayoutPasses() : Promise.resolve({passes: 0, views: {}})
+);
+
+var resetLayoutPasses = () => {
+    if (Platform.OS === 'android')
+        getNavigationTiming().resetLayoutPasses();
+};
+
+var setLayoutPassSampling = (sampleRate: number) => {
+    if (Platform.OS === 'android')
+        getNavigationTiming().setLayoutPassSampling(sampleRate);
+};
+
+var getEventPool = (): Promise<any> => (
+    Platform.OS === 'android' ? getNavigationTiming().getEventPool() : Promise.resolve({obtained: 0, reused: 0, hitRate: 0})
+);
+
+var resetEventPool = () => {
+    if (Platform.OS === 'android')
+        getNavigationTiming().resetEventPool();
+};
+
+export { getTransitionTimings, resetTransitionTimings, getLayoutPasses, resetLayoutPasses, setLayoutPassSampling, getEventPool, resetEventPool };
@@ -18,6 +18,27 @@ export interface NavigationStackProps {
      * The link to navigate to when Scenes in the stack are unregistered
      */
     stackInvalidatedLink?: string;
+    /**
+     * The link of the Scene to render and lay out ahead of navigating to it
+     * (Android only)
+     */
+    prewarmLink?: string;
+    /**
+     * The number of Scenes at the top of the stack that stay rendered
+     */
+    hibernationDepth?: number;
+    /**
+     * Handles a Scene transition finishing with its native timings
+     */
+    onTransition?: (timing: TransitionTiming) => void;
+    /**
+     * The milliseconds to wait for shared elements before animating without them
+     */
+    sharedElementTimeout?: number;
+    /**
+     * Handles shared elements that weren't ready before the timeout
+     */
+    onSharedElementTimeout?: (crumb: number, sharedElements: string[]) => void;
      /**
      * The Scene's title
      */
@@ -35,9 +56,9 @@ export interface NavigationStackProps {
      */
     hidesTabBar?: (state: State, data: any, crumbs: Crumb[]) => boolean;
     /**
-     * The Scene's shared element
+     * The Scene's shared elements
      */
-    sharedElement?: (state: State, data: any, crumbs: Crumb[]) => string;
+    sharedElement?: (state: State, data: any, crumbs: Crumb[]) => string | string[];
     /**
      * The color of the Scene's background
      */
@@ -78,9 +99,9 @@ export class NavigationStack extends Component<NavigationStackProps> { }
      */
     hidesTabBar?: boolean | ((data: any, crumbs: Crumb[]) => boolean);
     /**
-     * A Scene's shared element
+     * A Scene's shared elements
      */
-    sharedElement?: string | ((data: any, crumbs: Crumb[]) => string);
+    sharedElement?: string | string[] | ((data: any, crumbs: Crumb[]) => string | string[]);
     /**
      * The color of a Scene's background
      */
@@ -652,6 +673,11 @@ export interface TabBarProps {
      * Indicates whether to scroll to the top when the tab is reselected
      */
     scrollsToTop?: boolean;
+    /**
+     * The number of tabs either side of the selected tab to keep laid out.
+     * Use 0 to defer laying out a tab until it's swiped into view (Android only)
+     */
+    offscreenPageLimit?: number;
     /**
      * The default selected tab index
      */
@@ -828,6 +854,144 @@ export interface ModalBackHandlerProps {
  */
 export class ModalBackHandler extends Component<ModalBackHandlerProps> {}
 
+/**
+ * The native timings in milliseconds of a Scene transition
+ */
+export interface TransitionTiming {
+    /**
+     * The key of the State transitioned to
+     */
+    stateKey: string;
+    /**
+     * The crumb of the Scene transitioned to
+     */
+    crumb: number;
+    /**
+     * The time until the fragment transaction was committed
+     */
+    commit?: number;
+    /**
+     * The time until the Scene's view was created
+     */
+    createView?: number;
+    /**
+     * The time until the Scene first drew
+     */
+    firstDraw?: number;
+    /**
+     * The time until the transition came to rest
+     */
+    rest?: number;
+    /**
+     * The time the transition was postponed for the shared element
+     */
+    postpone?: number;
+    /**
+     * The number of times the Scene's hardware layer was redrawn while animating
+     */
+    layerRebuilds?: number;
+}
+
+/**
+ * The percentiles in milliseconds of a transition phase
+ */
+export interface TransitionHistogram {
+    count: number;
+    p50: number;
+    p95: number;
+    p99: number;
+}
+
+/**
+ * Gets the transition phase histograms for each State key (Android only)
+ */
+export function getTransitionTimings() : Promise<{ [stateKey: string]: { [phase: string]: TransitionHistogram } }>;
+
+/**
+ * Clears the recorded transition timings (Android only)
+ */
+export function resetTransitionTimings() : void;
+
+/**
+ * The forced native layouts of a view class for one trigger
+ */
+export interface LayoutPassCounts {
+    /**
+     * The number of forced measure and layouts
+     */
+    count: number;
+    /**
+     * The number of forced layouts skipped because the view was already laid out
+     */
+    skipped: number;
+    /**
+     * The total time in milliseconds spent measuring and laying out
+     */
+    duration: number;
+    /**
+     * The longest measure and layout in milliseconds
+     */
+    maxDuration: number;
+}
+
+/**
+ * The forced native layouts of the navigation views
+ */
+export interface LayoutPasses {
+    /**
+     * The number of sampled frames that ran forced layouts
+     */
+    passes: number;
+    /**
+     * The counts for each view class by trigger (propChange, attach or setCurrentItem)
+     */
+    views: { [viewClass: string]: { [trigger: string]: LayoutPassCounts } };
+}
+
+/**
+ * Gets the sampled forced layout counts of the navigation views (Android only)
+ */
+export function getLayoutPasses() : Promise<LayoutPasses>;
+
+/**
+ * Clears the recorded layout counts (Android only)
+ */
+export function resetLayoutPasses() : void;
+
+/**
+ * Sets the fraction of frames whose forced layouts are recorded, from 0
+ * (the default, recording off) to 1 (every frame) (Android only)
+ */
+export function setLayoutPassSampling(sampleRate: number) : void;
+
+/**
+ * The reuse of pooled native navigation events
+ */
+export interface EventPool {
+    /**
+     * The number of events obtained
+     */
+    obtained: number;
+    /**
+     * The number of events reused from a pool
+     */
+    reused: number;
+    /**
+     * The fraction of events reused from a pool
+     */
+    hitRate: number;
+}
+
+/**
+ * Gets the reuse counts of the pooled native events (Android only)
+ */
+export function getEventPool() : Promise<EventPool>;
+
+/**
+ * Clears the pooled event counts (Android only)
+ */
+export function resetEventPool() : void;
+
 /**
  * Registers callback for when navigating back to this Scene from another
  * @param handler The navigating event handler